@@ -4,17 +4,9 @@ import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.HexReversi;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.model.SquareReversi;
-import cs3500.reversi.provider.strategy.infallible.AvoidCornerAdjacencyMaxScore;
-import cs3500.reversi.provider.strategy.infallible.CaptureMostPieces;
-import cs3500.reversi.provider.strategy.infallible.OptimizeCornerStratMaxScore;
-import cs3500.reversi.provider.strategy.infallible.PlayCornersMaxScore;
-import cs3500.reversi.strategies.AvoidNextToCornerStrategy;
-import cs3500.reversi.strategies.CaptureCornersStrategy;
-import cs3500.reversi.strategies.CaptureMostStrategy;
-import cs3500.reversi.strategies.CombinedStrategy;
 import cs3500.reversi.strategies.HexStrategy;
 import cs3500.reversi.strategies.HumanStrategy;
-import cs3500.reversi.strategies.StrategyAdapter;
+import cs3500.reversi.strategies.StrategyFactory;
 import cs3500.reversi.view.BasicReversiView;
 import cs3500.reversi.view.ReversiView;
 import cs3500.reversi.view.SquareReversiView;
@@ -86,27 +78,10 @@ public class ReversiGame {
     switch (string) {
       case "human":
         return new HumanStrategy(view);
-      case "strategy1":
-        return new AvoidNextToCornerStrategy();
-      case "strategy2":
-        return new CaptureCornersStrategy();
-      case "strategy3":
-        return new CaptureMostStrategy();
-      case "strategy4":
-        return new CombinedStrategy();
-
       case "providerHuman":
         return null;
-      case "providerStrategy1":
-        return new StrategyAdapter(new CaptureMostPieces());
-      case "providerStrategy2":
-        return new StrategyAdapter(new AvoidCornerAdjacencyMaxScore());
-      case "providerStrategy3":
-        return new StrategyAdapter(new OptimizeCornerStratMaxScore());
-      case "providerStrategy4":
-        return new StrategyAdapter(new PlayCornersMaxScore());
       default:
-        throw new IllegalArgumentException("Cannot handle this type of player");
+        return StrategyFactory.create(string);
     }
   }
 
@@ -1,8 +1,14 @@
 package cs3500.reversi.controller;
 
+import java.awt.Window;
 import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.Hex;
 import cs3500.reversi.model.Player;
@@ -24,6 +30,10 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
   private final Player player;
   private boolean blackTurn;
   private GraphicalFrameView theirView;
+  // thread a computer player's strategy thinks on, made on its first turn
+  private ExecutorService thinker;
+  // true once the window is closed, so no more moves are thought of or made
+  private volatile boolean closed;
 
   /**
    * Constructs a controller for Reversi.
@@ -49,6 +59,7 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
 
 
     model.addFeatures(this);
+    view.addCloseListener(this::close);
     if (player.getPlayerType() == DiscStatus.Black) {
       view.addTitle("BLACK");
     } else {
@@ -82,6 +93,14 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
     }
 
     model.addFeatures(this);
+    if (theirView instanceof Window) {
+      ((Window) theirView).addWindowListener(new WindowAdapter() {
+        @Override
+        public void windowClosing(WindowEvent e) {
+          close();
+        }
+      });
+    }
   }
 
   /**
@@ -91,7 +110,23 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
   public void controllerPlaceDisc() {
 
     try {
-      ReversiCell currHex = player.play();
+      this.placeCell(player.play());
+    } catch (IllegalAccessException exception) {
+      this.controllerPass();
+    } catch (IllegalStateException | IllegalArgumentException exception) {
+      view.showErrorDialogue(exception.getMessage());
+    }
+    System.out.println("Enter pressed");
+
+  }
+
+  /**
+   * Places the player's disc on the chosen cell, then hands the turn to the other player or ends
+   * the game.
+   * @param currHex the cell the player chose
+   */
+  private void placeCell(ReversiCell currHex) {
+    try {
       view.setPanelCurrCell(currHex);
 
       if (!Objects.isNull(currHex) && !view.getAlreadySelected()) {
@@ -103,13 +138,74 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
         model.endOther(this.player.getPlayerType());
       }
       model.switchController(this.blackTurn);
-    } catch (IllegalAccessException exception) {
-      this.controllerPass();
     } catch (IllegalStateException | IllegalArgumentException exception) {
       view.showErrorDialogue(exception.getMessage());
     }
-    System.out.println("Enter pressed");
+  }
+
+  /**
+   * Has a computer player's strategy choose its move on a background thread, so the windows keep
+   * responding while it thinks, and then makes the move on the event thread, through whichever
+   * view this controller has. Nothing changes the model while the strategy reads it, the other
+   * player is waiting for this move and the views only read discs.
+   */
+  private void think() {
+    if (this.closed) {
+      return;
+    }
+    if (this.thinker == null) {
+      this.thinker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "reversi-" + player.getPlayerType() + "-player");
+        // a strategy still thinking does not keep the program running
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    this.thinker.execute(() -> {
+      Runnable move;
+      try {
+        if (this.view != null) {
+          ReversiCell cell = player.play();
+          move = () -> this.placeCell(cell);
+        } else {
+          ReversiCell hex = player.theirPlay();
+          move = () -> this.makeMove(new Hexagon(-hex.getS(), -hex.getR()));
+        }
+      } catch (IllegalAccessException exception) {
+        move = this::controllerPass;
+      } catch (IllegalStateException | IllegalArgumentException exception) {
+        move = () -> this.showError(exception.getMessage());
+      }
+      Runnable chosen = move;
+      SwingUtilities.invokeLater(() -> {
+        if (!this.closed) {
+          chosen.run();
+        }
+      });
+    });
+  }
+
+  /**
+   * Shows an error in whichever view this controller has.
+   * @param message the error
+   */
+  private void showError(String message) {
+    if (this.view != null) {
+      this.view.showErrorDialogue(message);
+    } else {
+      this.theirView.displayErrorMessage(message);
+    }
+  }
 
+  /**
+   * Stops a computer player from thinking of or making any more moves, once its window is closed.
+   * The thread thinking is interrupted, which ends the searches that check for it early.
+   */
+  private void close() {
+    this.closed = true;
+    if (this.thinker != null) {
+      this.thinker.shutdownNow();
+    }
   }
 
   /**
@@ -126,11 +222,7 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
         model.endOther(this.player.getPlayerType());
       }
     } catch (IllegalArgumentException e) {
-      if (view != null) {
-        view.showErrorDialogue(e.getMessage());
-      } else {
-        theirView.displayErrorMessage(e.getMessage());
-      }
+      this.showError(e.getMessage());
     }
 
   }
@@ -150,7 +242,7 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
       if (!model.isGameOver()) {
         if (hasControl) {
           if (!player.isHumanPlayer()) {
-            this.controllerPlaceDisc();
+            this.think();
           } else {
             view.showTurnDialogue();
           }
@@ -161,15 +253,10 @@ public class ReversiController implements ModelListener, InputFeatures, ViewFeat
 
       if (!model.isGameOver()) {
         if (hasControl) {
-          try {
-            if (!player.isHumanPlayer()) {
-              ReversiCell hex = player.theirPlay();
-              this.makeMove(new Hexagon(-hex.getS(), -hex.getR()));
-            } else {
-              theirView.displayMessage("Your turn :)");
-            }
-          } catch (IllegalAccessException e) {
-            this.controllerPass();
+          if (!player.isHumanPlayer()) {
+            this.think();
+          } else {
+            theirView.displayMessage("Your turn :)");
           }
         }
       }
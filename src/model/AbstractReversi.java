@@ -1,6 +1,10 @@
 package cs3500.reversi.model;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
@@ -18,31 +22,103 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
   // true if game is over, or hasn't started, false if in progress
   protected boolean isGameOver;
   protected final List<ModelListener> modelObservers;
+  // grid that players interact with
+  protected final Grid grid;
+  // every cell in every direction from each cell of the grid, to walk when counting flips
+  protected final RayTable rays;
+  // goes up every time the game changes, so analyses of an older position can be told apart
+  protected int version;
+  // indices of the legal moves of each player, black then white, except for stale cells
+  private final BitSet[] legalMoves = {new BitSet(), new BitSet()};
+  // indices of the cells whose legality may have changed since each player last checked them
+  private final BitSet[] staleMoves = {new BitSet(), new BitSet()};
+  // number of cells holding each disc status, indexed by the status' ordinal
+  private final int[] discCounts = new int[DiscStatus.values().length];
+  // every move made with doMove or doPass, oldest first, each as the indices of its flipped
+  // cells, then the placed cell's index (-1 for a pass), the number of flips, the pass count
+  // before the move and whether it was black's turn
+  private int[] undoStack = new int[64];
+  private int undoSize;
+  // keys of every disc the position hash can hold, and the XOR of the keys of the discs on the grid
+  private final ZobristKeys zobrist;
+  private long discHash;
+  // controller turns waiting to run, and whether they are being run, see handOff
+  private final Deque<Runnable> handOffs = new ArrayDeque<>();
+  private boolean handingOff;
 
 
   /**
-   * Default basic model of reversi game with gridSize of 11.
+   * Default basic model of reversi game on the given grid.
+   * @param grid the grid of the game
+   * @param rays the rays of the board the grid is on
    */
-  public AbstractReversi() {
+  public AbstractReversi(Grid grid, RayTable rays) {
     this.consecutivePass = 0;
     this.isGameOver = true;
     this.blackTurn = true;
     this.modelObservers = new ArrayList<>();
+    this.grid = grid;
+    this.rays = rays;
+    this.zobrist = ZobristKeys.forCellCount(rays.getCellCount());
+    this.version = 0;
+    this.refreshFromGrid();
   }
 
   /**
    * Constructs a reversi game with all its information/fields.
    * @param gridSize size of grid
+   * @param grid the grid of the game
+   * @param rays the rays of the board the grid is on
    * @param consecutivePass number of consecutive passes
    * @param isGameOver boolean that tells if game is over or not
    * @param blackTurn boolean that determines whose turn it is
    */
-  public AbstractReversi(int gridSize, int consecutivePass, boolean isGameOver,
-                         boolean blackTurn) {
+  public AbstractReversi(int gridSize, Grid grid, RayTable rays, int consecutivePass,
+                         boolean isGameOver, boolean blackTurn) {
     this.consecutivePass = consecutivePass;
     this.isGameOver = isGameOver;
     this.blackTurn = blackTurn;
     this.modelObservers = new ArrayList<>();
+    this.grid = grid;
+    this.rays = rays;
+    this.zobrist = ZobristKeys.forCellCount(rays.getCellCount());
+    this.version = 0;
+    this.refreshFromGrid();
+  }
+
+  /**
+   * Makes a started game in the same position as the given one, with the same player to move
+   * and the same passes in a row, on the grid a new game of its size would use: an array of
+   * hexes, bitboards for 8x8 squares, or a map of squares otherwise. The copy shares nothing with
+   * the given game, so moves can be tried out on it without changing the original.
+   * @param game the game to copy
+   * @return the copy
+   */
+  public static ReversiModel copyOf(ReadOnlyReversi game) {
+    int size = game.getGridSize();
+    CellRegistry registry = CellRegistry.forGame(game);
+    int passes = game.getConsecutivePasses();
+    boolean blackTurn = game.isBlackTurn();
+    if (registry.isHex()) {
+      return new HexReversi(size, new HexArrayGrid(game.getCopyOfGrid(), size), passes, false,
+              blackTurn);
+    }
+    if (size == BitboardSquareGrid.SIZE) {
+      long black = 0L;
+      long white = 0L;
+      for (int i = 0; i < registry.getCellCount(); i++) {
+        DiscStatus status = game.getStatus(registry.getCell(i));
+        if (status == DiscStatus.Black) {
+          black |= 1L << i;
+        } else if (status == DiscStatus.White) {
+          white |= 1L << i;
+        }
+      }
+      return new SquareReversi(size, new BitboardSquareGrid(black, white), passes, false,
+              blackTurn);
+    }
+    return new SquareReversi(size, new SquareGrid(game.getCopyOfGrid(), size), passes, false,
+            blackTurn);
   }
 
 
@@ -77,7 +153,8 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
    */
   @Override
   public void startGame() {
-    modelObservers.get(0).play(blackTurn);
+    boolean turn = blackTurn;
+    this.handOff(() -> modelObservers.get(0).play(turn));
   }
 
   /**
@@ -86,18 +163,271 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
   @Override
   public abstract void placeDisc(DiscStatus playerType, ReversiCell cell);
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void placeDisc(DiscStatus playerType, MoveAnalysis move) {
+    this.gameNotStartedWarning();
+    this.wrongPlayerWarning(playerType);
+
+    if (!move.isCurrent(this, this.version)) {
+      throw new IllegalStateException("Move was analyzed on a different position.");
+    }
+    if (!grid.getStatusAt(move.getIndex()).equals(DiscStatus.Empty)) {
+      throw new IllegalStateException("Cannot place a dic on a non-empty cell.");
+    }
+    if (!move.hasAdjacentOpposite()) {
+      throw new IllegalStateException("No adjacent opposite color cells.");
+    }
+    if (!move.isLegal()) {
+      throw new IllegalStateException("Adjacent opposite hexes present, but no moves allowable.");
+    }
+
+    // place the disc and flip every counted disc along each ray
+    DiscStatus playerColor = move.getPlayer();
+    int index = move.getIndex();
+    this.setCell(index, playerColor);
+    for (int d = 0; d < move.getDirectionCount(); d++) {
+      int[] ray = rays.getRay(index, d);
+      for (int i = 0; i < move.getFlips(d); i++) {
+        this.setCell(ray[i], playerColor);
+      }
+    }
+
+    this.endPlacedMove();
+  }
+
+  /**
+   * Ends the turn of a player who placed a disc for good: the turn switches, the consecutive.
+   * pass counter clears, and moves made with {@link #doMove(ReversiCell)} before it can no
+   * longer be undone.
+   */
+  protected void endPlacedMove() {
+    blackTurn = !blackTurn;
+    this.consecutivePass = 0;
+    this.version++;
+    this.undoSize = 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public MoveAnalysis analyzeMove(ReversiCell cell) {
+    this.gameNotStartedWarning();
+    int index = grid.getIndex(cell);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell with given coordinates"
+              + " does not exist on this grid.");
+    }
+    DiscStatus player = blackTurn ? DiscStatus.Black : DiscStatus.White;
+    DiscStatus oppositeStatus = blackTurn ? DiscStatus.White : DiscStatus.Black;
+
+    int[] flips = new int[rays.getDirectionCount()];
+    boolean adjacentOpposite = false;
+    for (int d = 0; d < flips.length; d++) {
+      int[] ray = rays.getRay(index, d);
+      adjacentOpposite |= ray.length > 0 && grid.getStatusAt(ray[0]).equals(oppositeStatus);
+      flips[d] = this.countFlips(index, d, player);
+    }
+    return new MoveAnalysis(this, this.version, grid.getCell(index), index, player, flips,
+            adjacentOpposite);
+  }
+
+  /**
+   * Sets the disc status of the cell at the given index. Every change to the grid during a game
+   * goes through here, so the legal moves near the cell get checked again.
+   *
+   * @param index  the index of the cell on the grid
+   * @param status the new disc status of the cell
+   */
+  protected void setCell(int index, DiscStatus status) {
+    this.recordChange(index, grid.getStatusAt(index), status);
+    grid.setStatusAt(index, status);
+    this.markMovesStale(index);
+  }
+
+  /**
+   * Updates the disc counts and position hash for a cell that changed status. Grids that change
+   * cells some other way than {@link #setCell(int, DiscStatus)} must call this for each of them.
+   *
+   * @param index  the index of the changed cell
+   * @param old    the disc status the cell had
+   * @param status the disc status the cell has now
+   */
+  protected void recordChange(int index, DiscStatus old, DiscStatus status) {
+    this.discCounts[old.ordinal()]--;
+    this.discCounts[status.ordinal()]++;
+    this.discHash ^= this.zobrist.getKey(index, old) ^ this.zobrist.getKey(index, status);
+  }
+
+  /**
+   * Marks every cell whose legality may have changed because the cell at the given index changed.
+   * A move's legality only depends on the discs along each of its rays up to the first empty
+   * cell, so those empty cells are the only ones to check again, besides the cell itself.
+   *
+   * @param index the index of the changed cell
+   */
+  private void markMovesStale(int index) {
+    for (BitSet stale : this.staleMoves) {
+      stale.set(index);
+    }
+    for (int d = 0; d < rays.getDirectionCount(); d++) {
+      for (int next : rays.getRay(index, d)) {
+        if (grid.getStatusAt(next) == DiscStatus.Empty) {
+          for (BitSet stale : this.staleMoves) {
+            stale.set(next);
+          }
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Counts the discs on the grid again and marks every cell to be checked again, for when the
+   * whole grid has changed without going through {@link #setCell(int, DiscStatus)}. Moves made
+   * before the change can no longer be undone.
+   */
+  protected void refreshFromGrid() {
+    Arrays.fill(this.discCounts, 0);
+    this.discHash = 0L;
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      this.discCounts[grid.getStatusAt(i).ordinal()]++;
+      this.discHash ^= this.zobrist.getKey(i, grid.getStatusAt(i));
+    }
+    for (BitSet stale : this.staleMoves) {
+      stale.set(0, grid.getCellCount());
+    }
+    // moves made on the old grid cannot be undone on this one
+    this.undoSize = 0;
+  }
+
+  /**
+   * Gets the indices of every legal move of the player whose turn it is, checking again only the.
+   * cells that changed since the last time. The set is shared, so it must not be changed.
+   *
+   * @return the indices of the legal moves, in index order
+   */
+  protected BitSet getLegalMoves() {
+    int player = blackTurn ? 0 : 1;
+    DiscStatus playerColor = blackTurn ? DiscStatus.Black : DiscStatus.White;
+    BitSet stale = this.staleMoves[player];
+    BitSet legal = this.legalMoves[player];
+    for (int i = stale.nextSetBit(0); i >= 0; i = stale.nextSetBit(i + 1)) {
+      legal.set(i, this.isLegalAt(i, playerColor));
+    }
+    stale.clear();
+    return legal;
+  }
+
+  /**
+   * Determines if the player can place a disc on the cell at the given index, without making.
+   * any lists or cells along the way.
+   *
+   * @param index  the index of the cell on the grid
+   * @param player the color of the player placing the disc
+   * @return true if the move is legal, false otherwise
+   */
+  protected boolean isLegalAt(int index, DiscStatus player) {
+    if (!grid.getStatusAt(index).equals(DiscStatus.Empty)) {
+      return false;
+    }
+    for (int d = 0; d < rays.getDirectionCount(); d++) {
+      if (this.countFlips(index, d, player) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Counts the opponent discs the player would flip in one direction by placing a disc on the.
+   * cell at the given index. Only the ray is looked at, not the cell itself.
+   *
+   * @param index     the index of the cell the disc is placed on
+   * @param direction the direction of the path from the cell
+   * @param player    the color of the player placing the disc
+   * @return the number of opponent discs between the cell and the nearest player disc, 0 if the
+   *         path is not closed off by a player disc
+   */
+  protected int countFlips(int index, int direction, DiscStatus player) {
+    DiscStatus oppositeStatus = player == DiscStatus.Black ? DiscStatus.White : DiscStatus.Black;
+    int count = 0;
+    for (int next : rays.getRay(index, direction)) {
+      DiscStatus status = grid.getStatusAt(next);
+      if (status != oppositeStatus) {
+        // closed off by a player disc, or broken by an empty cell
+        return status == DiscStatus.Empty ? 0 : count;
+      }
+      count++;
+    }
+    // path ran off the grid
+    return 0;
+  }
+
+  /**
+   * Determines number of opponent cells in between clicked cell and surrounding player cell
+   * (0 if no surrounding player cell exists and move is not valid). The opponent is whoever holds
+   * the adjacent cell.
+   *
+   * @param adjacent  Index of the opponent cell adjacent to clicked cell.
+   * @param direction The direction of the path from the clicked cell.
+   * @return The number of opponent cells needed to flip
+   */
+  protected int numOppositeHexes(int adjacent, int direction) {
+    DiscStatus oppositeStatus;
+
+    // get opposite color of player, same as adjacent cell
+    if (grid.getStatusAt(adjacent).equals(DiscStatus.White)) {
+      oppositeStatus = DiscStatus.White;
+    } else {
+      oppositeStatus = DiscStatus.Black;
+    }
+    if (!grid.getStatusAt(adjacent).equals(oppositeStatus)) {
+      return 0;
+    }
+
+    // traverse through same path of adjacent cell, from player-clicked cell
+    // while in grid, follow path of adjacent cell and find how many opposite colored cells exist
+    int numCellsInBetween = 1;
+    for (int index : rays.getRay(adjacent, direction)) {
+      DiscStatus status = grid.getStatusAt(index);
+      if (status.equals(oppositeStatus)) {
+        numCellsInBetween++;
+        continue;
+      }
+      // if surrounding cell is player color (not opponent's and not empty),
+      // return number of cells traversed
+      return status.equals(DiscStatus.Empty) ? 0 : numCellsInBetween;
+    }
+    // path ran off the grid, no surrounding cell
+    return 0;
+  }
+
   /**
    * {@inheritDoc}
    */
   public boolean anyPossibleMoves() {
-    return !this.getPossibleMoves().isEmpty();
+    this.gameNotStartedWarning();
+    return !this.getLegalMoves().isEmpty();
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public abstract List<ReversiCell> getPossibleMoves();
+  public List<ReversiCell> getPossibleMoves() {
+    this.gameNotStartedWarning();
+    List<ReversiCell> loPossibleMoves = new ArrayList<>();
+    // cells are indexed in the same order as scanning every coordinate
+    BitSet legal = this.getLegalMoves();
+    for (int i = legal.nextSetBit(0); i >= 0; i = legal.nextSetBit(i + 1)) {
+      loPossibleMoves.add(grid.getCell(i));
+    }
+    return loPossibleMoves;
+  }
 
   /**
    * Tries to place disc and returns list of booleans of successful moves made.
@@ -219,6 +549,108 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
     wrongPlayerWarning(playerType);
     this.consecutivePass += 1;
     blackTurn = !blackTurn;
+    this.version++;
+    this.undoSize = 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void doMove(ReversiCell cell) {
+    this.gameNotStartedWarning();
+    int index = grid.getIndex(cell);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell with given coordinates"
+              + " does not exist on this grid.");
+    }
+    if (!grid.getStatusAt(index).equals(DiscStatus.Empty)) {
+      throw new IllegalStateException("Cannot place a dic on a non-empty cell.");
+    }
+
+    DiscStatus playerColor = blackTurn ? DiscStatus.Black : DiscStatus.White;
+    int start = this.undoSize;
+    for (int d = 0; d < rays.getDirectionCount(); d++) {
+      int count = this.countFlips(index, d, playerColor);
+      int[] ray = rays.getRay(index, d);
+      for (int i = 0; i < count; i++) {
+        this.pushUndo(ray[i]);
+      }
+    }
+    int flips = this.undoSize - start;
+    if (flips == 0) {
+      throw new IllegalStateException("Adjacent opposite hexes present, but no moves allowable.");
+    }
+
+    // flip only once the move is known to be legal, so nothing has to be put back
+    for (int i = start; i < start + flips; i++) {
+      this.setCell(this.undoStack[i], playerColor);
+    }
+    this.setCell(index, playerColor);
+    this.pushUndo(index);
+    this.pushUndo(flips);
+    this.pushUndo(this.consecutivePass);
+    this.pushUndo(blackTurn ? 1 : 0);
+
+    blackTurn = !blackTurn;
+    this.consecutivePass = 0;
+    this.version++;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void doPass() {
+    this.gameNotStartedWarning();
+    this.pushUndo(-1);
+    this.pushUndo(0);
+    this.pushUndo(this.consecutivePass);
+    this.pushUndo(blackTurn ? 1 : 0);
+
+    this.consecutivePass += 1;
+    blackTurn = !blackTurn;
+    this.version++;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void undoMove() {
+    if (this.undoSize == 0) {
+      throw new IllegalStateException("No move to undo.");
+    }
+    boolean moverBlack = this.undoStack[--this.undoSize] == 1;
+    int passes = this.undoStack[--this.undoSize];
+    int flips = this.undoStack[--this.undoSize];
+    int index = this.undoStack[--this.undoSize];
+
+    if (index >= 0) {
+      // every flipped disc belonged to the opponent of the player who moved
+      DiscStatus opponentColor = moverBlack ? DiscStatus.White : DiscStatus.Black;
+      this.setCell(index, DiscStatus.Empty);
+      for (int i = 0; i < flips; i++) {
+        this.setCell(this.undoStack[--this.undoSize], opponentColor);
+      }
+    }
+    blackTurn = moverBlack;
+    this.consecutivePass = passes;
+    // a move could only be made while the game was in progress
+    this.isGameOver = false;
+    this.version++;
+  }
+
+  /**
+   * Adds a value to the top of the undo stack, growing it if it is full.
+   *
+   * @param value the value to add
+   */
+  private void pushUndo(int value) {
+    if (this.undoSize == this.undoStack.length) {
+      this.undoStack = Arrays.copyOf(this.undoStack, this.undoSize * 2);
+    }
+    this.undoStack[this.undoSize++] = value;
   }
 
   /**
@@ -239,6 +671,15 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
     return blackTurn;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getPositionHash() {
+    // the discs' part is kept up to date on every change, the turn's part is one more key
+    return blackTurn ? this.discHash : this.discHash ^ this.zobrist.getWhiteToMove();
+  }
+
   /**
    * Returns copy of current reversi model grid.
    *
@@ -264,12 +705,15 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
   }
 
   /**
-   * Calculates how many hexes on a grid are of the given disc status.
+   * Gets how many cells on the grid are of the given disc status. The counts are kept up to
+   * date on every change to the grid, so nothing is counted here.
    *
    * @param status The disc status we are calculating for.
-   * @return The number of hexes on a grid are of the given disc status.
+   * @return The number of cells on the grid that are of the given disc status.
    */
-  public abstract int getScoreHelper(DiscStatus status);
+  public int getScoreHelper(DiscStatus status) {
+    return this.discCounts[status.ordinal()];
+  }
 
   /**
    * {@inheritDoc}
@@ -292,10 +736,12 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
   @Override
   public List<DiscStatus> getWinners() {
     List<DiscStatus> winners = new ArrayList<>();
-    if (this.getBlackScore() == this.getWhiteScore()) {
+    int blackScore = this.getBlackScore();
+    int whiteScore = this.getWhiteScore();
+    if (blackScore == whiteScore) {
       winners.add(DiscStatus.Black);
       winners.add(DiscStatus.White);
-    } else if (this.getBlackScore() > this.getWhiteScore()) {
+    } else if (blackScore > whiteScore) {
       winners.add(DiscStatus.Black);
     } else {
       winners.add(DiscStatus.White);
@@ -321,12 +767,39 @@ public abstract class AbstractReversi implements ReversiModel, ModelFeatures {
    */
   @Override
   public void switchController(boolean blackTurn) {
-    if (blackTurn) {
-      modelObservers.get(1).play(this.blackTurn);
-      modelObservers.get(0).repaint();
-    } else {
-      modelObservers.get(0).play(this.blackTurn);
-      modelObservers.get(1).repaint();
+    ModelListener next = modelObservers.get(blackTurn ? 1 : 0);
+    ModelListener previous = modelObservers.get(blackTurn ? 0 : 1);
+    boolean turn = this.blackTurn;
+    this.handOff(() -> {
+      next.play(turn);
+      previous.repaint();
+    });
+  }
+
+  /**
+   * Runs a controller's turn once every turn already running has returned. A computer player
+   * hands the turn on from inside its own turn, so calling the next controller straight away
+   * would nest every turn of the game in the one before it, and a long game between computers
+   * could overflow the stack. Turns are run one after another in a loop instead, on the thread
+   * of whoever handed off first, so the stack stays the same depth for the whole game. Computer
+   * players can hand off from the event thread while the game was started on another, so only
+   * one thread runs turns at a time.
+   *
+   * @param turn the turn to run
+   */
+  private synchronized void handOff(Runnable turn) {
+    this.handOffs.add(turn);
+    if (this.handingOff) {
+      return;
+    }
+    this.handingOff = true;
+    try {
+      while (!this.handOffs.isEmpty()) {
+        this.handOffs.poll().run();
+      }
+    } finally {
+      this.handingOff = false;
+      this.handOffs.clear();
     }
   }
 
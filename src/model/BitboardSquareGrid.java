@@ -0,0 +1,297 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+
+/**
+ * The grid for an 8x8 square reversi game, stored as two bitboards (one long per player) instead.
+ * of a map. Bit {@code x * 8 + y} is set when the square at (x, y) holds that player's disc, so
+ * legal moves and flips can be found with shift-and-mask sweeps in all 8 directions.
+ */
+public class BitboardSquareGrid implements Grid {
+
+  // the only size of grid that fits in a long
+  public static final int SIZE = 8;
+  private static final CellRegistry REGISTRY = CellRegistry.forSquare(SIZE);
+
+  // every square with y == 0, and every square with y == 7
+  private static final long FIRST_ROW = 0x0101010101010101L;
+  private static final long LAST_ROW = 0x8080808080808080L;
+
+  // bit shift for each direction, in the same order as the directions of a square reversi game:
+  // top right, right, bottom right, bottom, bottom left, left, top left, top
+  private static final int[] SHIFTS = {7, 8, 9, 1, -7, -8, -9, -1};
+  // squares a shifted bit may land on without having wrapped around to another column
+  private static final long[] MASKS = {~LAST_ROW, -1L, ~FIRST_ROW, ~FIRST_ROW,
+                                       ~FIRST_ROW, -1L, ~LAST_ROW, ~LAST_ROW};
+
+  private long black;
+  private long white;
+  // false until the grid has been made, so no squares exist on it yet
+  private boolean made;
+
+  /**
+   * Constructs an empty 8x8 bitboard grid, no squares exist until {@link #makeGrid()} is called.
+   */
+  public BitboardSquareGrid() {
+    this.black = 0L;
+    this.white = 0L;
+    this.made = false;
+  }
+
+  /**
+   * Makes a bitboard grid with the given discs already placed.
+   * @param black the bitboard of black discs
+   * @param white the bitboard of white discs
+   */
+  public BitboardSquareGrid(long black, long white) {
+    if ((black & white) != 0) {
+      throw new IllegalArgumentException("A square cannot hold both a black and white disc.");
+    }
+    this.black = black;
+    this.white = white;
+    this.made = true;
+  }
+
+  /**
+   * Gets a live map view of this grid, squares as keys and disc statuses as values. Changing.
+   * the status of a square through the map changes the bitboards.
+   *
+   * @return Map of grid
+   */
+  @Override
+  public Map<ReversiCell, DiscStatus> getGrid() {
+    return new GridMapView(this, Square.class);
+  }
+
+  /**
+   * Makes the grid, all squares exist and are empty.
+   */
+  @Override
+  public void makeGrid() {
+    this.black = 0L;
+    this.white = 0L;
+    this.made = true;
+  }
+
+  /**
+   * Populates the 4 squares in the middle of the grid, alternating player colors.
+   */
+  @Override
+  public void starterGrid() {
+    int middle = (SIZE / 2) - 1;
+    this.black |= bit(middle, middle) | bit(middle + 1, middle + 1);
+    this.white |= bit(middle + 1, middle) | bit(middle, middle + 1);
+  }
+
+  /**
+   * Gets disc status of cell with given coordinates.
+   *
+   * @return disc status of chosen cell.
+   * @throws IllegalArgumentException if the cell is not on this grid
+   */
+  @Override
+  public DiscStatus getStatus(ReversiCell cell) {
+    int x = cell.getX();
+    int y = cell.getY();
+
+    if (!this.isOnGrid(x, y)) {
+      throw new IllegalArgumentException("Square with given coordinates"
+              + " does not exist on this grid.");
+    }
+    return this.getStatusAt(x * SIZE + y);
+  }
+
+  /**
+   * Determines if the square at the given coordinates exists on this grid.
+   * @param x the x coordinate of the square
+   * @param y the y coordinate of the square
+   * @return true if on the grid, false otherwise
+   */
+  public boolean isOnGrid(int x, int y) {
+    return this.made && x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+  }
+
+  /**
+   * Gets the bit of the square at the given coordinates.
+   * @param x the x coordinate of the square
+   * @param y the y coordinate of the square
+   * @return the bitboard with only that square set
+   */
+  public static long bit(int x, int y) {
+    return 1L << (x * SIZE + y);
+  }
+
+  /**
+   * Gets the discs of the given player.
+   * @param player the player color, black or white
+   * @return the bitboard of that player's discs
+   */
+  public long getDiscs(DiscStatus player) {
+    switch (player) {
+      case Black:
+        return this.black;
+      case White:
+        return this.white;
+      default:
+        return ~(this.black | this.white);
+    }
+  }
+
+  /**
+   * Counts how many squares hold the given status.
+   * @param status the disc status to count
+   * @return the number of squares with that status
+   */
+  public int count(DiscStatus status) {
+    return Long.bitCount(this.getDiscs(status));
+  }
+
+  /**
+   * Moves every bit of the bitboard one square in the given direction, dropping bits that would.
+   * go off the grid.
+   * @param bits the bitboard to shift
+   * @param direction the direction, 0 to 7 in square reversi order
+   * @return the shifted bitboard
+   */
+  static long shift(long bits, int direction) {
+    int amount = SHIFTS[direction];
+    long shifted = amount > 0 ? bits << amount : bits >>> -amount;
+    return shifted & MASKS[direction];
+  }
+
+  /**
+   * Gets every empty square where the given player could place a disc.
+   * @param blackTurn true to find black's moves, false for white's
+   * @return the bitboard of legal moves
+   */
+  public long getLegalMoves(boolean blackTurn) {
+    long own = blackTurn ? this.black : this.white;
+    long opp = blackTurn ? this.white : this.black;
+    long empty = ~(own | opp);
+    long legal = 0L;
+
+    for (int d = 0; d < SHIFTS.length; d++) {
+      // run of opponent discs touching one of our discs, at most 6 long on an 8x8 grid
+      long run = shift(own, d) & opp;
+      for (int i = 0; i < SIZE - 3; i++) {
+        run |= shift(run, d) & opp;
+      }
+      legal |= shift(run, d) & empty;
+    }
+    return legal;
+  }
+
+  /**
+   * Gets the opponent discs that would be flipped in one direction by placing a disc.
+   * @param move the bit of the square the disc is placed on
+   * @param direction the direction, 0 to 7 in square reversi order
+   * @param blackTurn true if black is placing the disc, false for white
+   * @return the bitboard of discs flipped in that direction, 0 if none
+   */
+  public long getFlips(long move, int direction, boolean blackTurn) {
+    long own = blackTurn ? this.black : this.white;
+    long opp = blackTurn ? this.white : this.black;
+    long flips = 0L;
+
+    long next = shift(move, direction);
+    while ((next & opp) != 0) {
+      flips |= next;
+      next = shift(next, direction);
+    }
+    return (next & own) != 0 ? flips : 0L;
+  }
+
+  /**
+   * Gets every opponent disc that would be flipped by placing a disc.
+   * @param move the bit of the square the disc is placed on
+   * @param blackTurn true if black is placing the disc, false for white
+   * @return the bitboard of discs flipped in all directions, 0 if the move is not legal
+   */
+  public long getFlips(long move, boolean blackTurn) {
+    long flips = 0L;
+    for (int d = 0; d < SHIFTS.length; d++) {
+      flips |= this.getFlips(move, d, blackTurn);
+    }
+    return flips;
+  }
+
+  /**
+   * Determines if any square next to the given one holds an opponent disc.
+   * @param move the bit of the square
+   * @param blackTurn true if black is the player, false for white
+   * @return true if an opponent disc is adjacent, false otherwise
+   */
+  public boolean hasAdjacentOpposite(long move, boolean blackTurn) {
+    long opp = blackTurn ? this.white : this.black;
+    for (int d = 0; d < SHIFTS.length; d++) {
+      if ((shift(move, d) & opp) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Places a disc and flips the given discs to the player's color.
+   * @param move the bit of the square the disc is placed on
+   * @param flips the discs to flip
+   * @param blackTurn true if black is placing the disc, false for white
+   */
+  public void applyMove(long move, long flips, boolean blackTurn) {
+    if (blackTurn) {
+      this.black |= move | flips;
+      this.white &= ~flips;
+    } else {
+      this.white |= move | flips;
+      this.black &= ~flips;
+    }
+  }
+
+  @Override
+  public int getCellCount() {
+    return this.made ? SIZE * SIZE : 0;
+  }
+
+  @Override
+  public int getIndex(ReversiCell cell) {
+    int x = cell.getX();
+    int y = cell.getY();
+    return this.isOnGrid(x, y) ? x * SIZE + y : -1;
+  }
+
+  @Override
+  public ReversiCell getCell(int index) {
+    return REGISTRY.getCell(index);
+  }
+
+  @Override
+  public DiscStatus getStatusAt(int index) {
+    long mask = 1L << index;
+    if ((this.black & mask) != 0) {
+      return DiscStatus.Black;
+    } else if ((this.white & mask) != 0) {
+      return DiscStatus.White;
+    } else {
+      return DiscStatus.Empty;
+    }
+  }
+
+  @Override
+  public void setStatusAt(int index, DiscStatus status) {
+    long mask = 1L << index;
+    this.black &= ~mask;
+    this.white &= ~mask;
+    if (status == DiscStatus.Black) {
+      this.black |= mask;
+    } else if (status == DiscStatus.White) {
+      this.white |= mask;
+    }
+  }
+
+  @Override
+  public int getNeighbor(int index, int direction) {
+    int x = index / SIZE + Square.DIRECTIONS[direction][0];
+    int y = index % SIZE + Square.DIRECTIONS[direction][1];
+    return this.isOnGrid(x, y) ? x * SIZE + y : -1;
+  }
+}
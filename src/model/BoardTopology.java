@@ -0,0 +1,244 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The shape of a board worked out once: the neighbors of every cell, which cells are corners,
+ * next to a corner or on the edge, and the symmetries of the board. Everything is looked up by
+ * the cell indices of a {@link CellRegistry}, so classifying a cell is one array read instead of
+ * checking its coordinates. Topologies never change and are shared by every board of the same
+ * shape and size.
+ *
+ * <p>Corners are the six points of a hex board and the four corners of a square one. The cells
+ * next to a corner share a side or a point with it without being corners themselves, the X and
+ * C squares of a square board. Edge cells are the outer ring of the board, corners included.
+ *
+ * <p>Row corners are the corners at the ends of the top and bottom rows: every corner of a
+ * square board, but only four of the six of a hex board, the two in the middle row left out.
+ * They are the corners the simple corner strategies have always played for and kept away from.
+ */
+public final class BoardTopology {
+
+  private static final Map<CellRegistry, BoardTopology> TOPOLOGIES = new ConcurrentHashMap<>();
+
+  private static final byte CORNER = 1;
+  private static final byte NEXT_TO_CORNER = 2;
+  private static final byte EDGE = 4;
+  private static final byte ROW_CORNER = 8;
+  private static final byte NEXT_TO_ROW_CORNER = 16;
+
+  private final CellRegistry registry;
+  // the first cell of every ray is the neighbor in that direction
+  private final RayTable rays;
+  // CORNER, NEXT_TO_CORNER, EDGE, ROW_CORNER and NEXT_TO_ROW_CORNER flags of every cell
+  private final byte[] classes;
+  // indices of the corners in reading order
+  private final int[] corners;
+  // symmetries[k][index] is the index the cell at index is moved to by the kth symmetry
+  private final int[][] symmetries;
+
+  private BoardTopology(CellRegistry registry) {
+    this.registry = registry;
+    this.rays = RayTable.forRegistry(registry);
+    int count = registry.getCellCount();
+
+    int size = registry.getGridSize();
+    int n = size / 2;
+    if (registry.isHex()) {
+      this.corners = new int[] {registry.getHexIndex(0, -n, n), registry.getHexIndex(n, -n, 0),
+          registry.getHexIndex(-n, 0, n), registry.getHexIndex(n, 0, -n),
+          registry.getHexIndex(-n, n, 0), registry.getHexIndex(0, n, -n)};
+    } else {
+      this.corners = new int[] {registry.getSquareIndex(0, 0),
+          registry.getSquareIndex(size - 1, 0), registry.getSquareIndex(0, size - 1),
+          registry.getSquareIndex(size - 1, size - 1)};
+    }
+
+    this.classes = new byte[count];
+    for (int corner : this.corners) {
+      this.classes[corner] |= CORNER;
+      if (!registry.isHex() || registry.getCell(corner).getR() != 0) {
+        this.classes[corner] |= ROW_CORNER;
+      }
+    }
+    for (int corner : this.corners) {
+      for (int d = 0; d < registry.getDirectionCount(); d++) {
+        int neighbor = this.getNeighbor(corner, d);
+        if (neighbor >= 0 && (this.classes[neighbor] & CORNER) == 0) {
+          this.classes[neighbor] |= NEXT_TO_CORNER;
+        }
+        if (neighbor >= 0 && (this.classes[corner] & ROW_CORNER) != 0
+                && (this.classes[neighbor] & ROW_CORNER) == 0) {
+          this.classes[neighbor] |= NEXT_TO_ROW_CORNER;
+        }
+      }
+    }
+    for (int i = 0; i < count; i++) {
+      for (int d = 0; d < registry.getDirectionCount(); d++) {
+        if (this.getNeighbor(i, d) < 0) {
+          this.classes[i] |= EDGE;
+        }
+      }
+    }
+
+    // every rotation, then every rotation of the mirror image
+    int rotations = registry.isHex() ? 6 : 4;
+    this.symmetries = new int[2 * rotations][count];
+    for (int i = 0; i < count; i++) {
+      ReversiCell cell = registry.getCell(i);
+      for (int k = 0; k < this.symmetries.length; k++) {
+        this.symmetries[k][i] = this.transform(cell, k >= rotations, k % rotations);
+      }
+    }
+  }
+
+  /**
+   * Gets the index a cell is moved to by mirroring it and then turning it.
+   * @param mirror whether to mirror the cell first
+   * @param turns the number of turns clockwise, sixths of a circle on hex boards and quarters on
+   *              square ones
+   */
+  private int transform(ReversiCell cell, boolean mirror, int turns) {
+    if (this.registry.isHex()) {
+      int q = cell.getQ();
+      int r = mirror ? cell.getS() : cell.getR();
+      int s = mirror ? cell.getR() : cell.getS();
+      for (int t = 0; t < turns; t++) {
+        int oldQ = q;
+        q = -r;
+        r = -s;
+        s = -oldQ;
+      }
+      return this.registry.getHexIndex(q, r, s);
+    } else {
+      int last = this.registry.getGridSize() - 1;
+      int x = mirror ? cell.getY() : cell.getX();
+      int y = mirror ? cell.getX() : cell.getY();
+      for (int t = 0; t < turns; t++) {
+        int oldX = x;
+        x = last - y;
+        y = oldX;
+      }
+      return this.registry.getSquareIndex(x, y);
+    }
+  }
+
+  /**
+   * Gets the topology of the board the given registry's cells are on.
+   * @param registry the cells of the board
+   * @return the shared topology for that board
+   */
+  public static BoardTopology forRegistry(CellRegistry registry) {
+    return TOPOLOGIES.computeIfAbsent(registry, BoardTopology::new);
+  }
+
+  /**
+   * Gets the cells the topology's indices belong to.
+   * @return the registry of the board
+   */
+  public CellRegistry getRegistry() {
+    return this.registry;
+  }
+
+  /**
+   * Gets the number of cells on the board.
+   * @return the number of cells
+   */
+  public int getCellCount() {
+    return this.classes.length;
+  }
+
+  /**
+   * Gets the number of directions a cell has neighbors in.
+   * @return 6 for hex boards, 8 for square boards
+   */
+  public int getDirectionCount() {
+    return this.registry.getDirectionCount();
+  }
+
+  /**
+   * Gets the index of the cell next to the given one in a direction.
+   * @param index the index of the cell
+   * @param direction the direction, numbered clockwise from the top right like the game does
+   * @return the index of the neighbor, -1 if it is off the board
+   */
+  public int getNeighbor(int index, int direction) {
+    int[] ray = this.rays.getRay(index, direction);
+    return ray.length == 0 ? -1 : ray[0];
+  }
+
+  /**
+   * Gets the corners of the board in reading order, top row first and left to right in a row.
+   * The array is shared, so it must not be changed.
+   * @return the indices of the corners
+   */
+  public int[] getCorners() {
+    return this.corners;
+  }
+
+  /**
+   * Is the cell at the given index a corner?.
+   * @param index the index of the cell
+   * @return true if it is a corner
+   */
+  public boolean isCorner(int index) {
+    return (this.classes[index] & CORNER) != 0;
+  }
+
+  /**
+   * Is the cell at the given index next to a corner, without being one itself?.
+   * @param index the index of the cell
+   * @return true if it shares a side or a point with a corner
+   */
+  public boolean isNextToCorner(int index) {
+    return (this.classes[index] & NEXT_TO_CORNER) != 0;
+  }
+
+  /**
+   * Is the cell at the given index a corner at the end of the top or bottom row?.
+   * @param index the index of the cell
+   * @return true if it is a row corner
+   */
+  public boolean isRowCorner(int index) {
+    return (this.classes[index] & ROW_CORNER) != 0;
+  }
+
+  /**
+   * Is the cell at the given index next to a row corner, without being one itself?.
+   * @param index the index of the cell
+   * @return true if it shares a side or a point with a row corner
+   */
+  public boolean isNextToRowCorner(int index) {
+    return (this.classes[index] & NEXT_TO_ROW_CORNER) != 0;
+  }
+
+  /**
+   * Is the cell at the given index on the edge of the board?.
+   * @param index the index of the cell
+   * @return true if it is on the outer ring, corners included
+   */
+  public boolean isEdge(int index) {
+    return (this.classes[index] & EDGE) != 0;
+  }
+
+  /**
+   * Gets the number of ways the board can be turned or mirrored onto itself, doing nothing
+   * included.
+   * @return 12 for hex boards, 8 for square boards
+   */
+  public int getSymmetryCount() {
+    return this.symmetries.length;
+  }
+
+  /**
+   * Gets where one of the board's symmetries moves every cell. Symmetry 0 leaves every cell
+   * where it is, the first half turn the board clockwise by one more step each, and the second
+   * half do the same to the board mirrored. The array is shared, so it must not be changed.
+   * @param symmetry the number of the symmetry, from 0
+   * @return the index each cell is moved to, by the cell's index
+   */
+  public int[] getSymmetry(int symmetry) {
+    return this.symmetries[symmetry];
+  }
+}
@@ -0,0 +1,229 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out the one canonical cell for every coordinate on a board of one shape and size.
+ * Loops over a board can look cells up here instead of making new ones. Every cell also has an
+ * index, the same index a full grid of that board uses: hexes in order of q then r, squares in
+ * order of x then y. Registries never change and are shared by every board of the same shape
+ * and size.
+ */
+public final class CellRegistry {
+
+  private static final Map<Integer, CellRegistry> HEX_REGISTRIES = new ConcurrentHashMap<>();
+  private static final Map<Integer, CellRegistry> SQUARE_REGISTRIES = new ConcurrentHashMap<>();
+
+  private final boolean hex;
+  private final int gridSize;
+  // hex boards only: how far the corners are from the center
+  private final int radius;
+  // hex boards only: index of the hex at (q + radius) * gridSize + (r + radius), -1 if off board
+  private final int[] hexLookup;
+  private final ReversiCell[] cells;
+
+  private CellRegistry(boolean hex, int gridSize) {
+    this.hex = hex;
+    this.gridSize = gridSize;
+    if (hex) {
+      this.radius = gridSize / 2;
+      this.hexLookup = new int[gridSize * gridSize];
+      int count = 0;
+      for (int q = -radius; q <= radius; q++) {
+        for (int r = -radius; r <= radius; r++) {
+          boolean onBoard = Math.abs(q + r) <= radius;
+          this.hexLookup[(q + radius) * gridSize + (r + radius)] = onBoard ? count++ : -1;
+        }
+      }
+      this.cells = new ReversiCell[count];
+      for (int q = -radius; q <= radius; q++) {
+        for (int r = -radius; r <= radius; r++) {
+          int index = this.getHexIndex(q, r, -q - r);
+          if (index >= 0) {
+            this.cells[index] = new Hex(q, r, -q - r);
+          }
+        }
+      }
+    } else {
+      this.radius = 0;
+      this.hexLookup = null;
+      this.cells = new ReversiCell[gridSize * gridSize];
+      for (int x = 0; x < gridSize; x++) {
+        for (int y = 0; y < gridSize; y++) {
+          this.cells[x * gridSize + y] = new Square(x, y);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the registry of hexes for a hexagonal board.
+   * @param gridSize the number of hexes on the axes of the board
+   * @return the shared registry for boards of that size
+   * @throws IllegalArgumentException if the size is not odd and at least 3
+   */
+  public static CellRegistry forHex(int gridSize) {
+    if (gridSize % 2 != 1 || gridSize < 3) {
+      throw new IllegalArgumentException("Grid has to be at least 3 hexes wide and odd.");
+    }
+    return HEX_REGISTRIES.computeIfAbsent(gridSize, size -> new CellRegistry(true, size));
+  }
+
+  /**
+   * Gets the registry of squares for a square board.
+   * @param gridSize the number of squares on the side of the board
+   * @return the shared registry for boards of that size
+   * @throws IllegalArgumentException if the size is not even and greater than 2
+   */
+  public static CellRegistry forSquare(int gridSize) {
+    if (gridSize % 2 != 0 || gridSize <= 2) {
+      throw new IllegalArgumentException("Grid has to be positive and even.");
+    }
+    return SQUARE_REGISTRIES.computeIfAbsent(gridSize, size -> new CellRegistry(false, size));
+  }
+
+  /**
+   * Gets the registry of the board a game is played on. Hex boards are always an odd number of
+   * hexes wide and square boards an even number of squares, so the size tells the shape.
+   * @param game the game
+   * @return the shared registry for the game's board
+   * @throws IllegalArgumentException if no board has the game's size
+   */
+  public static CellRegistry forGame(ReadOnlyReversi game) {
+    int gridSize = game.getGridSize();
+    return gridSize % 2 == 1 ? forHex(gridSize) : forSquare(gridSize);
+  }
+
+  /**
+   * Is this a registry of hexes?.
+   * @return true if the board is hexagonal, false if it is square
+   */
+  public boolean isHex() {
+    return this.hex;
+  }
+
+  /**
+   * Gets the size of the board.
+   * @return the number of cells on the axes (hex) or side (square) of the board
+   */
+  public int getGridSize() {
+    return this.gridSize;
+  }
+
+  /**
+   * Gets the number of cells on the board.
+   * @return the number of cells
+   */
+  public int getCellCount() {
+    return this.cells.length;
+  }
+
+  /**
+   * Gets the cell at the given index.
+   * @param index the index of the cell
+   * @return the canonical cell
+   */
+  public ReversiCell getCell(int index) {
+    return this.cells[index];
+  }
+
+  /**
+   * Gets the index of the cell with the same coordinates as the given one.
+   * @param cell the cell with its coordinates
+   * @return the index of the cell, -1 if it is not on the board
+   * @throws IllegalArgumentException if the cell is not the shape of this board's cells
+   */
+  public int getIndex(ReversiCell cell) {
+    if (this.hex) {
+      return this.getHexIndex(cell.getQ(), cell.getR(), cell.getS());
+    } else {
+      return this.getSquareIndex(cell.getX(), cell.getY());
+    }
+  }
+
+  /**
+   * Gets the index of the hex at the given coordinates.
+   * @param q The q coordinate of the hex
+   * @param r The r coordinate of the hex
+   * @param s The s coordinate of the hex
+   * @return the index of the hex, -1 if it is not on the board
+   * @throws IllegalArgumentException if this is not a hex board
+   */
+  public int getHexIndex(int q, int r, int s) {
+    if (!this.hex) {
+      throw new IllegalArgumentException("Not a hex");
+    }
+    if (q + r + s != 0 || q < -radius || q > radius || r < -radius || r > radius) {
+      return -1;
+    }
+    return this.hexLookup[(q + radius) * gridSize + (r + radius)];
+  }
+
+  /**
+   * Gets the index of the square at the given coordinates.
+   * @param x The x coordinate of the square
+   * @param y The y coordinate of the square
+   * @return the index of the square, -1 if it is not on the board
+   * @throws IllegalArgumentException if this is not a square board
+   */
+  public int getSquareIndex(int x, int y) {
+    if (this.hex) {
+      throw new IllegalArgumentException("Not a square");
+    }
+    if (x < 0 || x >= gridSize || y < 0 || y >= gridSize) {
+      return -1;
+    }
+    return x * gridSize + y;
+  }
+
+  /**
+   * Gets the canonical hex at the given coordinates.
+   * @param q The q coordinate of the hex
+   * @param r The r coordinate of the hex
+   * @param s The s coordinate of the hex
+   * @return the hex, null if it is not on the board
+   * @throws IllegalArgumentException if this is not a hex board
+   */
+  public ReversiCell getHex(int q, int r, int s) {
+    int index = this.getHexIndex(q, r, s);
+    return index < 0 ? null : this.cells[index];
+  }
+
+  /**
+   * Gets the canonical square at the given coordinates.
+   * @param x The x coordinate of the square
+   * @param y The y coordinate of the square
+   * @return the square, null if it is not on the board
+   * @throws IllegalArgumentException if this is not a square board
+   */
+  public ReversiCell getSquare(int x, int y) {
+    int index = this.getSquareIndex(x, y);
+    return index < 0 ? null : this.cells[index];
+  }
+
+  /**
+   * Gets the index of the cell next to the given one in a direction.
+   * @param index the index of the cell
+   * @param direction the direction, numbered clockwise from the top right like the game does
+   * @return the index of the neighbor, -1 if it is off the board
+   */
+  public int getNeighborIndex(int index, int direction) {
+    ReversiCell cell = this.cells[index];
+    if (this.hex) {
+      int[] dir = Hex.DIRECTIONS[direction];
+      return this.getHexIndex(cell.getQ() + dir[0], cell.getR() + dir[1], cell.getS() + dir[2]);
+    } else {
+      int[] dir = Square.DIRECTIONS[direction];
+      return this.getSquareIndex(cell.getX() + dir[0], cell.getY() + dir[1]);
+    }
+  }
+
+  /**
+   * Gets the number of directions a line of cells can go in on this board.
+   * @return 6 for hex boards, 8 for square boards
+   */
+  public int getDirectionCount() {
+    return this.hex ? Hex.DIRECTIONS.length : Square.DIRECTIONS.length;
+  }
+}
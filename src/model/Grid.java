@@ -31,4 +31,50 @@ public interface Grid {
    */
   public DiscStatus getStatus(ReversiCell cell);
 
+  /**
+   * Gets the number of cells on the grid. Every cell has an index from 0 to this count - 1,
+   * the same index as in the {@link CellRegistry} of the board, and no cells exist until the
+   * grid is made.
+   * @return the number of cells on the grid.
+   */
+  public int getCellCount();
+
+  /**
+   * Gets the index of the cell with the given coordinates.
+   * @param cell The reversi cell with its coordinates.
+   * @return the index of the cell, -1 if it is not on the grid.
+   * @throws IllegalArgumentException if the cell is not the shape of this grid's cells
+   */
+  public int getIndex(ReversiCell cell);
+
+  /**
+   * Gets the cell at the given index.
+   * @param index The index of the cell.
+   * @return the cell with its coordinates.
+   */
+  public ReversiCell getCell(int index);
+
+  /**
+   * Gets disc status of the cell at the given index.
+   * @param index The index of the cell.
+   * @return disc status of chosen cell.
+   */
+  public DiscStatus getStatusAt(int index);
+
+  /**
+   * Sets the disc status of the cell at the given index.
+   * @param index The index of the cell.
+   * @param status The new disc status of the cell.
+   */
+  public void setStatusAt(int index, DiscStatus status);
+
+  /**
+   * Gets the index of the cell next to the given one in a direction. Directions are numbered.
+   * the same way the game numbers them, starting at the top right and going clockwise.
+   * @param index The index of the cell.
+   * @param direction The direction of the neighbor.
+   * @return the index of the neighbor, -1 if it would be off the grid.
+   */
+  public int getNeighbor(int index, int direction);
+
 }
@@ -0,0 +1,94 @@
+package cs3500.reversi.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Live map view of a grid that is not stored as a map, cells as keys and disc statuses as values.
+ * Reads and writes go straight through to the grid's index methods.
+ */
+class GridMapView extends AbstractMap<ReversiCell, DiscStatus> {
+
+  private final Grid grid;
+  // the shape of cell the grid is made of, other cells are never keys
+  private final Class<? extends ReversiCell> cellType;
+
+  /**
+   * Constructs the map view of the given grid.
+   * @param grid the grid to read and write through to
+   * @param cellType the class of cell the grid is made of
+   */
+  GridMapView(Grid grid, Class<? extends ReversiCell> cellType) {
+    this.grid = grid;
+    this.cellType = cellType;
+  }
+
+  private int indexOf(Object key) {
+    if (this.cellType.isInstance(key)) {
+      return this.grid.getIndex((ReversiCell) key);
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return this.indexOf(key) >= 0;
+  }
+
+  @Override
+  public DiscStatus get(Object key) {
+    int index = this.indexOf(key);
+    return index < 0 ? null : this.grid.getStatusAt(index);
+  }
+
+  @Override
+  public DiscStatus put(ReversiCell key, DiscStatus value) {
+    int index = this.indexOf(key);
+    if (index < 0) {
+      throw new IllegalArgumentException("Cell with given coordinates"
+              + " does not exist on this grid.");
+    }
+    DiscStatus old = this.grid.getStatusAt(index);
+    this.grid.setStatusAt(index, value);
+    return old;
+  }
+
+  @Override
+  public int size() {
+    return this.grid.getCellCount();
+  }
+
+  @Override
+  public Set<Entry<ReversiCell, DiscStatus>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<ReversiCell, DiscStatus>> iterator() {
+        return new Iterator<>() {
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < grid.getCellCount();
+          }
+
+          @Override
+          public Entry<ReversiCell, DiscStatus> next() {
+            if (!this.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            int index = next++;
+            return new SimpleImmutableEntry<>(grid.getCell(index), grid.getStatusAt(index));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return GridMapView.this.size();
+      }
+    };
+  }
+}
@@ -1,12 +1,14 @@
 package cs3500.reversi.model;
 
-import java.util.Objects;
-
 /**
  * Represents a Hex, a cell of hexagonal shape that has a coordinate with 3 axes .
  * (to be put in the reversi grid) and methods to determine equality and get its properties.
  */
 public class Hex implements ReversiCell {
+  // change in q, r, s when moving to the next hex in each direction, clockwise from top right
+  static final int[][] DIRECTIONS = {{1, -1, 0}, {1, 0, -1}, {0, 1, -1},
+                                     {-1, 1, 0}, {-1, 0, 1}, {0, -1, 1}};
+
   // value on q axis
   private final int q;
   // value on r axis
@@ -55,7 +57,10 @@ public class Hex implements ReversiCell {
    */
   @Override
   public int hashCode() {
-    return Objects.hash();
+    // s is always -q - r, so q and r are enough to tell hexes apart. Multiplying by a large odd
+    // constant spreads neighboring hexes across the whole int range instead of clustering them.
+    int hash = this.q * 0x9E3779B1 + this.r;
+    return hash ^ (hash >>> 16);
   }
 
   /**
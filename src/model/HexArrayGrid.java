@@ -0,0 +1,167 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the hexagonal grid for a reversi game stored as a flat array instead of a map.
+ * Every (q, r, s) coordinate on the grid maps to an index, statuses are kept in a byte per hex,
+ * and the neighbors of every hex are precomputed so walking the grid needs no lookups.
+ */
+public class HexArrayGrid implements Grid {
+
+  // status of a hex is stored as the ordinal of its disc status
+  private static final DiscStatus[] STATUSES = DiscStatus.values();
+  // the index layouts already built, shared by every grid of the same size
+  private static final Map<Integer, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+  private final int gridSize;
+  private final CellRegistry registry;
+  private final Layout layout;
+  private final byte[] states;
+  // false until the grid has been made, so no hexes exist on it yet
+  private boolean made;
+
+  /**
+   * Constructs the array representation of a hex grid.
+   * @param gridSize The size of the hex grid (number of hexes on the axes of the grid)
+   */
+  public HexArrayGrid(int gridSize) {
+    // invariant: same as HexGrid, grid size must be odd and at least 3 hexes so there is a center
+    // hex with a full ring around it
+    if (gridSize % 2 == 1 && gridSize >= 3) {
+      this.gridSize = gridSize;
+      this.registry = CellRegistry.forHex(gridSize);
+      this.layout = LAYOUTS.computeIfAbsent(gridSize, size -> new Layout(this.registry));
+      this.states = new byte[this.registry.getCellCount()];
+      this.made = false;
+    }
+    else {
+      throw new IllegalArgumentException("Grid has to be at least 3 hexes wide and odd.");
+    }
+  }
+
+  /**
+   * Makes a hex grid with the given map of hexes to colors and size.
+   * @param grid the map of hexes and their disc status
+   * @param gridSize the size of the grid
+   */
+  public HexArrayGrid(Map<ReversiCell, DiscStatus> grid, int gridSize) {
+    this(gridSize);
+    for (Map.Entry<ReversiCell, DiscStatus> entry : grid.entrySet()) {
+      int index = this.registry.getIndex(entry.getKey());
+      if (index < 0) {
+        throw new IllegalArgumentException("Hex with given coordinates"
+                + " does not exist on this grid.");
+      }
+      this.states[index] = (byte) entry.getValue().ordinal();
+    }
+    this.made = true;
+  }
+
+  /**
+   * Gets a live map view of the hex grid, hexes as keys and disc statuses as values.
+   * @return hex grid's map representation of the game.
+   */
+  @Override
+  public Map<ReversiCell, DiscStatus> getGrid() {
+    return new GridMapView(this, Hex.class);
+  }
+
+  /**
+   * Makes the grid, every hex exists and is empty.
+   */
+  @Override
+  public void makeGrid() {
+    for (int i = 0; i < this.states.length; i++) {
+      this.states[i] = (byte) DiscStatus.Empty.ordinal();
+    }
+    this.made = true;
+  }
+
+  /**
+   * Populates first ring around center hex with alternating player colors.
+   */
+  @Override
+  public void starterGrid() {
+    this.setStatusAt(this.registry.getHexIndex(0, -1, 1), DiscStatus.Black);
+    this.setStatusAt(this.registry.getHexIndex(1, -1, 0), DiscStatus.White);
+    this.setStatusAt(this.registry.getHexIndex(1, 0, -1), DiscStatus.Black);
+    this.setStatusAt(this.registry.getHexIndex(0, 1, -1), DiscStatus.White);
+    this.setStatusAt(this.registry.getHexIndex(-1, 1, 0), DiscStatus.Black);
+    this.setStatusAt(this.registry.getHexIndex(-1, 0, 1), DiscStatus.White);
+  }
+
+  /**
+   * Gets disc status of hex at given coordinates.
+   *
+   * @param cell The reversi cell with its coordinates.
+   * @return disc status of chosen cell.
+   * @throws IllegalArgumentException if an invalid hex coordinate (not on grid)
+   */
+  @Override
+  public DiscStatus getStatus(ReversiCell cell) {
+    int index = this.getIndex(cell);
+    if (index < 0) {
+      throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
+    }
+    return this.getStatusAt(index);
+  }
+
+  @Override
+  public int getCellCount() {
+    return this.made ? this.states.length : 0;
+  }
+
+  @Override
+  public int getIndex(ReversiCell cell) {
+    int index = this.registry.getIndex(cell);
+    return this.made ? index : -1;
+  }
+
+  @Override
+  public ReversiCell getCell(int index) {
+    return this.registry.getCell(index);
+  }
+
+  @Override
+  public DiscStatus getStatusAt(int index) {
+    return STATUSES[this.states[index]];
+  }
+
+  @Override
+  public void setStatusAt(int index, DiscStatus status) {
+    this.states[index] = (byte) status.ordinal();
+  }
+
+  @Override
+  public int getNeighbor(int index, int direction) {
+    return this.layout.neighbors[index][direction];
+  }
+
+  /**
+   * Gets the size of the grid.
+   * @return the number of hexes on the axes of the grid
+   */
+  public int getGridSize() {
+    return this.gridSize;
+  }
+
+  /**
+   * The neighbors of every hex on a grid of one size, which never change. Hexes are indexed the
+   * same way as in the {@link CellRegistry} of that size, in order of q then r.
+   */
+  private static final class Layout {
+    // index of the neighbor of each hex in each of the 6 directions, -1 if off the grid
+    private final int[][] neighbors;
+
+    private Layout(CellRegistry registry) {
+      this.neighbors = new int[registry.getCellCount()][Hex.DIRECTIONS.length];
+      for (int index = 0; index < this.neighbors.length; index++) {
+        for (int d = 0; d < Hex.DIRECTIONS.length; d++) {
+          this.neighbors[index][d] = registry.getNeighborIndex(index, d);
+        }
+      }
+    }
+  }
+}
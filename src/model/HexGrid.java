@@ -5,11 +5,13 @@ import java.util.Map;
 
 /**
  * Represents the hexagonal grid for a reversi game and its methods of building one.
+ * Kept as the simple map-based reference implementation of a hex grid, see {@link HexArrayGrid}.
  */
 public class HexGrid implements Grid {
 
   public Map<ReversiCell, DiscStatus> grid;
   private final int gridSize;
+  private final CellRegistry registry;
 
   /**
    * Constructs the HexGrid representation of a reversi model.
@@ -25,6 +27,7 @@ public class HexGrid implements Grid {
     //change sizes mid-game
     if (gridSize % 2 == 1 && gridSize >= 3) {
       this.gridSize = gridSize;
+      this.registry = CellRegistry.forHex(gridSize);
       grid = new HashMap<>();
     }
     else {
@@ -47,6 +50,7 @@ public class HexGrid implements Grid {
     //change sizes mid-game
     if (gridSize % 2 == 1 && gridSize >= 3) {
       this.gridSize = gridSize;
+      this.registry = CellRegistry.forHex(gridSize);
       this.grid = grid;
     }
     else {
@@ -67,15 +71,8 @@ public class HexGrid implements Grid {
    * Makes and populates map grid with all coordinates with empty disc statuses.
    */
   public void makeGrid() {
-    int coord = (int) Math.floor(gridSize / 2);
-    for (int q = -coord; q <= coord; q++) {
-      for (int r = -coord; r <= coord; r++) {
-        for (int s = -coord; s <= coord; s++) {
-          if (q + r + s == 0) {
-            grid.put(new Hex(q,r,s), DiscStatus.Empty);
-          }
-        }
-      }
+    for (int i = 0; i < registry.getCellCount(); i++) {
+      grid.put(registry.getCell(i), DiscStatus.Empty);
     }
   }
 
@@ -83,12 +80,12 @@ public class HexGrid implements Grid {
    * Populates map grid, populating first ring around center cell with alternating player colors.
    */
   public void starterGrid() {
-    grid.replace(new Hex(0, -1, 1), DiscStatus.Empty, DiscStatus.Black);
-    grid.replace(new Hex(1, -1, 0), DiscStatus.Empty, DiscStatus.White);
-    grid.replace(new Hex(1, 0, -1), DiscStatus.Empty, DiscStatus.Black);
-    grid.replace(new Hex(0, 1, -1), DiscStatus.Empty, DiscStatus.White);
-    grid.replace(new Hex(-1, 1, 0), DiscStatus.Empty, DiscStatus.Black);
-    grid.replace(new Hex(-1, 0, 1), DiscStatus.Empty, DiscStatus.White);
+    grid.replace(registry.getHex(0, -1, 1), DiscStatus.Empty, DiscStatus.Black);
+    grid.replace(registry.getHex(1, -1, 0), DiscStatus.Empty, DiscStatus.White);
+    grid.replace(registry.getHex(1, 0, -1), DiscStatus.Empty, DiscStatus.Black);
+    grid.replace(registry.getHex(0, 1, -1), DiscStatus.Empty, DiscStatus.White);
+    grid.replace(registry.getHex(-1, 1, 0), DiscStatus.Empty, DiscStatus.Black);
+    grid.replace(registry.getHex(-1, 0, 1), DiscStatus.Empty, DiscStatus.White);
 
   }
 
@@ -104,12 +101,52 @@ public class HexGrid implements Grid {
     int q = cell.getQ();
     int r = cell.getR();
     int s = cell.getS();
+    ReversiCell hex = registry.getHex(q, r, s);
 
-    if (!grid.containsKey(new Hex(q, r, s))) {
+    if (hex == null || !grid.containsKey(hex)) {
       throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
     } else {
-      return grid.get(new Hex(q, r, s));
+      return grid.get(hex);
     }
   }
 
+  @Override
+  public int getCellCount() {
+    return grid.isEmpty() ? 0 : registry.getCellCount();
+  }
+
+  @Override
+  public int getIndex(ReversiCell cell) {
+    int index = registry.getHexIndex(cell.getQ(), cell.getR(), cell.getS());
+
+    if (index < 0 || !grid.containsKey(registry.getCell(index))) {
+      return -1;
+    }
+    return index;
+  }
+
+  @Override
+  public ReversiCell getCell(int index) {
+    return registry.getCell(index);
+  }
+
+  @Override
+  public DiscStatus getStatusAt(int index) {
+    return grid.get(registry.getCell(index));
+  }
+
+  @Override
+  public void setStatusAt(int index, DiscStatus status) {
+    grid.replace(registry.getCell(index), status);
+  }
+
+  @Override
+  public int getNeighbor(int index, int direction) {
+    int neighbor = registry.getNeighborIndex(index, direction);
+    if (neighbor < 0 || !grid.containsKey(registry.getCell(neighbor))) {
+      return -1;
+    }
+    return neighbor;
+  }
+
 }
@@ -10,16 +10,13 @@ import java.util.Map;
  */
 public class HexReversi extends AbstractReversi {
 
-  private final Grid grid;
   private int gridSize;
 
   /**
    * Default basic model of reversi game with gridSize of 11.
    */
   public HexReversi() {
-    super();
-    this.gridSize = 11;
-    this.grid = new HexGrid(this.gridSize);
+    this(11);
   }
 
   /**
@@ -27,9 +24,8 @@ public class HexReversi extends AbstractReversi {
    * @param gridSize Sets the size of the grid, how many hexes are in the axes of the grid
    */
   public HexReversi(int gridSize) {
-    super();
+    super(new HexArrayGrid(gridSize), RayTable.forRegistry(CellRegistry.forHex(gridSize)));
     this.gridSize = gridSize;
-    this.grid = new HexGrid(gridSize);
   }
 
   /**
@@ -42,8 +38,9 @@ public class HexReversi extends AbstractReversi {
    */
   public HexReversi(int gridSize, Grid grid, int consecutivePass, boolean isGameOver,
                       boolean blackTurn) {
-    super(gridSize, consecutivePass, isGameOver, blackTurn);
-    this.grid = grid;
+    super(gridSize, grid, RayTable.forRegistry(CellRegistry.forHex(gridSize)), consecutivePass,
+            isGameOver, blackTurn);
+    this.gridSize = gridSize;
   }
 
   /**
@@ -58,8 +55,10 @@ public class HexReversi extends AbstractReversi {
     grid.makeGrid();
     // make first ring around center alternating
     grid.starterGrid();
+    this.refreshFromGrid();
     // sets game over to false, game is now in progress
     this.isGameOver = false;
+    this.version++;
   }
 
   /**
@@ -71,57 +70,17 @@ public class HexReversi extends AbstractReversi {
     super.gameNotStartedWarning();
     super.wrongPlayerWarning(playerType);
 
-    int q = cell.getQ();
-    int r = cell.getR();
-    int s = cell.getS();
+    int index = grid.getIndex(cell);
 
-    if (!grid.getGrid().containsKey(new Hex(q, r, s))) {
+    if (index < 0) {
       throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
     }
 
-    if (!grid.getGrid().get(new Hex(q, r, s)).equals(DiscStatus.Empty)) {
+    if (!grid.getStatusAt(index).equals(DiscStatus.Empty)) {
       throw new IllegalStateException("Cannot place a dic on a non-empty cell.");
     }
-    // gets all the adjacent opponent hexes to clicked cell
-    List<Boolean> loMovesMade = validatePlaceDiscMove(cell);
-
-    // if all adjacent opposite hexes were null (clicked cell is
-    // not adjacent to an opponent cell)
-    if (loMovesMade.isEmpty()) {
-      throw new IllegalStateException("No adjacent opposite hexes.");
-    }
-
-    // if for all adjacent opponent cells, no moves were allowable
-    else if (!this.checkListContainsTrue(loMovesMade)) {
-      throw new IllegalStateException("Adjacent opposite hexes present, but no moves allowable.");
-    }
-    // if move was allowable, switch turns and clear consecutive pass counter
-    else {
-      blackTurn = !blackTurn;
-      this.consecutivePass = 0;
-    }
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public List<ReversiCell> getPossibleMoves() {
-    gameNotStartedWarning();
-    List<ReversiCell> loPossibleMoves = new ArrayList<>();
-    int coord = (int) Math.floor(gridSize / 2);
-    for (int q = -coord; q <= coord; q++) {
-      for (int r = -coord; r <= coord; r++) {
-        for (int s = -coord; s <= coord; s++) {
-          if (q + r + s == 0) {
-            if (this.isMoveLegalAt(new Hex(q, r, s))) {
-              loPossibleMoves.add(new Hex(q, r, s));
-            }
-          }
-        }
-      }
-    }
-    return loPossibleMoves;
+    // counts the flips in every direction once, then flips them if the move is allowable
+    this.placeDisc(playerType, this.analyzeMove(cell));
   }
 
   /**
@@ -133,56 +92,18 @@ public class HexReversi extends AbstractReversi {
   @Override
   public boolean isMoveLegalAt(ReversiCell cell) {
 
-    int q = cell.getQ();
-    int r = cell.getR();
-    int s = cell.getS();
+    int index = grid.getIndex(cell);
 
     gameNotStartedWarning();
-    if (!grid.getGrid().containsKey(new Hex(q, r, s))
-            || !grid.getGrid().get(new Hex(q, r, s)).equals(DiscStatus.Empty)) {
-      return false;
-    }
-    // gets all the adjacent opponent hexes to clicked cell
-    List<Boolean> loMovesMade = super.validateTryPlaceDisc(cell);
-
-    // have list of booleans be returned without making changes
-
-    // if all adjacent opposite hexes were null (clicked cell is
-    // not adjacent to an opponent cell) and no moves allowable
-    return !loMovesMade.isEmpty() && super.checkListContainsTrue(loMovesMade);
+    // legal if in any direction there is a path of opponent hexes that ends in a player hex
+    return index >= 0 && this.getLegalMoves().get(index);
   }
 
   @Override
   public Boolean tryPlaceDisc(ReversiCell adjHex, int i) {
-    // switches between possible i (direction of path of opponent cells adjacent to target hex)
-    switch (i) {
-      // top right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 0:
-        return this.numOppositeHexes(adjHex, 1, -1, 0) > 0;
-      // right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 1:
-        return this.numOppositeHexes(adjHex, 1, 0, -1) > 0;
-      // bottom right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 2:
-        return this.numOppositeHexes(adjHex, 0, 1, -1) > 0;
-      // bottom left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 3:
-        return this.numOppositeHexes(adjHex, -1, 1, 0) > 0;
-      // left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 4:
-        return this.numOppositeHexes(adjHex, -1, 0, 1) > 0;
-      // top left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 5:
-        return this.numOppositeHexes(adjHex, 0, -1, 1) > 0;
-      default:
-        throw new IllegalArgumentException("Direction cannot be handled.");
-    }
+    int[] dir = this.getDirectionChange(i);
+    // if opponent hex path adjacent to clicked cell has surrounding player hex, move is allowable
+    return this.numOppositeHexes(adjHex, dir[0], dir[1], dir[2]) > 0;
   }
 
   /**
@@ -195,10 +116,6 @@ public class HexReversi extends AbstractReversi {
    */
   @Override
   public List<Boolean> validatePlaceDiscMove(ReversiCell cell) {
-    int q = cell.getQ();
-    int r = cell.getR();
-    int s = cell.getS();
-
     List<ReversiCell> loAdjacentOpposite = this.getAdjacentOpposite(cell);
     if (super.checkListNull(loAdjacentOpposite)) {
       throw new IllegalStateException("No adjacent opposite color cells.");
@@ -210,7 +127,7 @@ public class HexReversi extends AbstractReversi {
       if (loAdjacentOpposite.get(i) != null) {
         // calls method to make move and make applicable changes if allowable
         // adds a boolean to loMoves (true if a successful move, false if not)
-        loMovesMade.add(this.placeDiscHelper(new Hex(q, r, s), loAdjacentOpposite.get(i), i));
+        loMovesMade.add(this.placeDiscHelper(cell, loAdjacentOpposite.get(i), i));
       }
 
     }
@@ -228,6 +145,7 @@ public class HexReversi extends AbstractReversi {
     int q = cell.getQ();
     int r = cell.getR();
     int s = cell.getS();
+    int index = grid.getIndex(cell);
 
     DiscStatus oppositeStatus;
     // determine opponent cell color based on turn
@@ -241,58 +159,23 @@ public class HexReversi extends AbstractReversi {
     for (int i = 0; i < 6; i++) {
       loAdjacent.add(null);
     }
-    // TOP RIGHT: if hex to the top right of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(q + 1, r - 1, s, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(0, new Hex(q + 1, r - 1, s));
-    }
-    // RIGHT: if hex to the right of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(q + 1, r, s - 1, oppositeStatus)) {
-      // add hex at index 1
-      loAdjacent.set(1, new Hex(q + 1, r, s - 1));
-    }
-    // BOTTOM RIGHT: if hex to the bottom right of clicked cell is on the grid,
-    // and the opposite color
-    if (this.checkCellOnGridAndOpposite(q, r + 1, s - 1, oppositeStatus)) {
-      // add hex at index 2
-      loAdjacent.set(2, new Hex(q, r + 1, s - 1));
-    }
-    // BOTTOM LEFT: if hex to the bottom left of clicked cell is on the grid,
-    // and the opposite color
-    if (this.checkCellOnGridAndOpposite(q - 1, r + 1, s, oppositeStatus)) {
-      // add hex at index 3
-      loAdjacent.set(3, new Hex(q - 1, r + 1, s));
-    }
-    // LEFT: if hex to the left of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(q - 1, r, s + 1, oppositeStatus)) {
-      // add hex at index 4
-      loAdjacent.set(4, new Hex(q - 1, r, s + 1));
-    }
-    // TOP LEFT: if hex to the top left of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(q, r - 1, s + 1, oppositeStatus)) {
-      // add hex at index 5
-      loAdjacent.set(5, new Hex(q, r - 1, s + 1));
+    // in every direction (top right, right, bottom right, bottom left, left, top left), if the
+    // hex next to the clicked cell is on the grid and the opposite color, add it at that index
+    for (int i = 0; i < Hex.DIRECTIONS.length; i++) {
+      int adjacent;
+      if (index >= 0) {
+        adjacent = grid.getNeighbor(index, i);
+      } else {
+        // clicked cell is off the grid, but its neighbor might not be
+        ReversiCell next = CellRegistry.forHex(gridSize).getHex(q + Hex.DIRECTIONS[i][0],
+                r + Hex.DIRECTIONS[i][1], s + Hex.DIRECTIONS[i][2]);
+        adjacent = next == null ? -1 : grid.getIndex(next);
+      }
+      if (adjacent >= 0 && grid.getStatusAt(adjacent).equals(oppositeStatus)) {
+        loAdjacent.set(i, grid.getCell(adjacent));
+      }
     }
-    List<ReversiCell> loAdjacentCopy = new ArrayList<>(loAdjacent);
-    //    // if none pass (list remains all null), throw exception
-    //    if (this.checkListNull(loAdjacent)) {
-    //      throw new IllegalStateException("No adjacent opposite color cells.");
-    //    }
-    return loAdjacentCopy;
-  }
-
-  /**
-   * Is the cell passed in the opposite color of the current player and on the grid?.
-   *
-   * @param q              coordinate of given cell
-   * @param r              coordinate of given cell
-   * @param s              coordinate of given cell
-   * @param oppositeStatus opposite status of current player
-   * @return true if cell passed in is opposite the current player, false otherwise
-   */
-  private boolean checkCellOnGridAndOpposite(int q, int r, int s, DiscStatus oppositeStatus) {
-    return grid.getGrid().containsKey(new Hex(q, r, s))
-            && grid.getGrid().get(new Hex(q, r, s)).equals(oppositeStatus);
+    return loAdjacent;
   }
 
   /**
@@ -307,72 +190,29 @@ public class HexReversi extends AbstractReversi {
    */
   @Override
   public boolean placeDiscHelper(ReversiCell targetHex, ReversiCell adjHex, int i) {
+    int[] dir = this.getDirectionChange(i);
+    // if opponent hex path adjacent to clicked cell has surrounding player hex,
+    // make resulting changes to board
+    int numHexesInBetween = this.numOppositeHexes(adjHex, dir[0], dir[1], dir[2]);
+    if (numHexesInBetween > 0) {
+      this.makeChanges(targetHex, numHexesInBetween, dir[0], dir[1], dir[2]);
+      return true;
+    }
+    return false;
+  }
 
-    // switches between possible i (direction of path of opponent cells adjacent to target hex)
-    switch (i) {
-      // top right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 0:
-        if (this.numOppositeHexes(adjHex, 1, -1, 0) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, 1, -1, 0),
-                  1, -1, 0);
-          return true;
-        }
-        return false;
-      // right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 1:
-        if (this.numOppositeHexes(adjHex, 1, 0, -1) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, 1, 0, -1),
-                  1, 0, -1);
-          return true;
-        }
-        return false;
-      // bottom right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 2:
-        if (this.numOppositeHexes(adjHex, 0, 1, -1) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, 0, 1, -1),
-                  0, 1, -1);
-          return true;
-        }
-        return false;
-      // bottom left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 3:
-        if (this.numOppositeHexes(adjHex, -1, 1, 0) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, -1, 1, 0),
-                  -1, 1, 0);
-          return true;
-        }
-        return false;
-      // left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 4:
-        if (this.numOppositeHexes(adjHex, -1, 0, 1) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, -1, 0, 1),
-                  -1, 0, 1);
-          return true;
-        }
-        return false;
-      // top left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 5:
-        if (this.numOppositeHexes(adjHex, 0, -1, 1) > 0) {
-          this.makeChanges(targetHex,
-                  this.numOppositeHexes(adjHex, 0, -1, 1),
-                  0, -1, 1);
-          return true;
-        }
-        return false;
-      default:
-        throw new IllegalArgumentException("Direction cannot be handled.");
+  /**
+   * Gets the change in each axis when traveling one hex in the given direction.
+   *
+   * @param i The direction, 0 to 5 starting at top right.
+   * @return the change in q, r and s.
+   * @throws IllegalArgumentException if there is no such direction
+   */
+  private int[] getDirectionChange(int i) {
+    if (i < 0 || i >= Hex.DIRECTIONS.length) {
+      throw new IllegalArgumentException("Direction cannot be handled.");
     }
+    return Hex.DIRECTIONS[i];
   }
 
   /**
@@ -400,20 +240,17 @@ public class HexReversi extends AbstractReversi {
       playerColor = DiscStatus.White;
     }
 
-    // get initial coordinates of adjacent hex
-    int q = targetHex.getQ();
-    int r = targetHex.getR();
-    int s = targetHex.getS();
-
-    // starting at clicked hex, starts flipping colors of hexes
-    for (int i = 0; i <= numHexesInBetween; i++) {
-      Hex currentHex = new Hex(q, r, s);
-      grid.getGrid().replace(currentHex, playerColor);
+    int direction = this.getDirection(qDir, rDir, sDir);
+    int index = grid.getIndex(targetHex);
+    if (index < 0) {
+      return;
+    }
 
-      // update coordinates, startGame to next hex in path
-      q += qDir;
-      r += rDir;
-      s += sDir;
+    // starting at clicked hex, flips colors of hexes along the path
+    this.setCell(index, playerColor);
+    int[] ray = rays.getRay(index, direction);
+    for (int i = 0; i < numHexesInBetween && i < ray.length; i++) {
+      this.setCell(ray[i], playerColor);
     }
   }
 
@@ -422,58 +259,34 @@ public class HexReversi extends AbstractReversi {
    */
   @Override
   public DiscStatus getStatus(ReversiCell cell) {
-    int q = cell.getQ();
-    int r = cell.getR();
-    int s = cell.getS();
-
-    return grid.getStatus(new Hex(q, r, s));
+    return grid.getStatus(cell);
   }
 
   @Override
   public int numOppositeHexes(ReversiCell adjHex, int qDir, int rDir, int sDir) {
-    int numHexesInBetween = 0;
-    DiscStatus oppositeStatus;
-
-    // get opposite color of player, same as adjacent hex
-    if (grid.getGrid().get(adjHex).equals(DiscStatus.White)) {
-      oppositeStatus = DiscStatus.White;
-    } else {
-      oppositeStatus = DiscStatus.Black;
+    int index = grid.getIndex(adjHex);
+    if (index < 0) {
+      throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
     }
+    return this.numOppositeHexes(index, this.getDirection(qDir, rDir, sDir));
+  }
 
-    // get initial coordinates of adjacent hex
-    int q = adjHex.getQ();
-    int r = adjHex.getR();
-    int s = adjHex.getS();
-
-    // traverse through same path of adjacent hex, from player-clicked hex
-    // while in grid, follow path of adjacent hex and find how many opposite colored cells exist
-    while (grid.getGrid().containsKey(new Hex(q, r, s))) {
-
-      // if opposite color, move to next and add 1
-      if (grid.getGrid().get(new Hex(q, r, s)).equals(oppositeStatus)) {
-        numHexesInBetween++;
-        q += qDir;
-        r += rDir;
-        s += sDir;
-        continue;
+  /**
+   * Gets the direction number of the path that changes each axis by the given amounts.
+   *
+   * @param qDir The number change in axis q when traveling along the path.
+   * @param rDir The number change in axis r when traveling along the path.
+   * @param sDir The number change in axis s when traveling along the path.
+   * @return the direction, 0 to 5 starting at top right.
+   */
+  private int getDirection(int qDir, int rDir, int sDir) {
+    for (int i = 0; i < Hex.DIRECTIONS.length; i++) {
+      if (Hex.DIRECTIONS[i][0] == qDir && Hex.DIRECTIONS[i][1] == rDir
+              && Hex.DIRECTIONS[i][2] == sDir) {
+        return i;
       }
-      // if not opponent color, break out
-      break;
-    }
-
-    // if current hex is not on the grid, return 0, no surrounding cell
-    if (!grid.getGrid().containsKey(new Hex(q, r, s))) {
-      return 0;
-    }
-    // if surrounding cell is player color (not opponent's and not empty),
-    // return number of cells traversed
-    if (!grid.getGrid().get(new Hex(q, r, s)).equals(oppositeStatus)
-            && !grid.getGrid().get(new Hex(q, r, s)).equals(DiscStatus.Empty)) {
-      return numHexesInBetween;
-    } else {
-      return 0;
     }
+    throw new IllegalArgumentException("Direction cannot be handled.");
   }
 
   /**
@@ -484,36 +297,13 @@ public class HexReversi extends AbstractReversi {
   @Override
   public Map<ReversiCell, DiscStatus> getCopyOfGrid() {
     Map<ReversiCell, DiscStatus> currGrid = new HashMap<>();
-    for (ReversiCell hex : this.grid.getGrid().keySet()) {
-      currGrid.put(new Hex(hex.getQ(), hex.getR(), hex.getS()), this.grid.getGrid().get(hex));
+    // hexes never change, so the copy can share them
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      currGrid.put(grid.getCell(i), grid.getStatusAt(i));
     }
     return currGrid;
   }
 
-  /**
-   * Calculates how many hexes on a grid are of the given disc status.
-   *
-   * @param status The disc status we are calculating for.
-   * @return The number of hexes on a grid are of the given disc status.
-   */
-  @Override
-  public int getScoreHelper(DiscStatus status) {
-    int score = 0;
-    int coord = (int) Math.floor(gridSize / 2);
-    for (int q = -coord; q <= coord; q++) {
-      for (int r = -coord; r <= coord; r++) {
-        for (int s = -coord; s <= coord; s++) {
-          if (q + r + s == 0) {
-            if (grid.getGrid().get(new Hex(q, r, s)) == status) {
-              score += 1;
-            }
-          }
-        }
-      }
-    }
-    return score;
-  }
-
   /**
    * {@inheritDoc}
    */
@@ -9,7 +9,8 @@ public interface ModelFeatures {
 
   /**
    * Starts the game by telling the black controller to make its first move since black always goes.
-   * first.
+   * first. Returns once no controller has a turn to take, for a game between computers once the
+   * game is over.
    */
   void startGame();
 
@@ -21,7 +22,8 @@ public interface ModelFeatures {
 
   /**
    * Accurately switch between both controllers. If black made a move tell white to make a move.
-   * and vice versa.
+   * and vice versa. If a controller's turn is running, the other controller is told once it
+   * returns, so turns run one after another instead of inside each other.
    * @param blackTurn is it black's turn?
    */
   void switchController(boolean blackTurn);
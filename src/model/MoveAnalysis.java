@@ -0,0 +1,118 @@
+package cs3500.reversi.model;
+
+/**
+ * The result of looking at one cell as a move for the player whose turn it is: how many discs
+ * it would flip in every direction. An analysis never changes, and can be given back to the game
+ * it came from to play the move without counting the flips again, as long as nothing has been
+ * played on that game since.
+ */
+public final class MoveAnalysis {
+
+  // the game this analysis was made on, and how many changes that game had seen at the time
+  private final ReadOnlyReversi game;
+  private final int version;
+  private final ReversiCell cell;
+  private final int index;
+  private final DiscStatus player;
+  // number of opponent discs flipped in each direction, clockwise from the top right
+  private final int[] flips;
+  private final int totalFlips;
+  private final boolean adjacentOpposite;
+
+  /**
+   * Constructs the analysis of a move.
+   * @param game the game the move was analyzed on
+   * @param version the version of the game when it was analyzed
+   * @param cell the cell of the move
+   * @param index the index of the cell on the game's grid
+   * @param player the player making the move
+   * @param flips the number of discs flipped in each direction, not copied
+   * @param adjacentOpposite true if an opponent disc is next to the cell in any direction
+   */
+  MoveAnalysis(ReadOnlyReversi game, int version, ReversiCell cell, int index, DiscStatus player,
+               int[] flips, boolean adjacentOpposite) {
+    this.game = game;
+    this.version = version;
+    this.cell = cell;
+    this.index = index;
+    this.player = player;
+    this.flips = flips;
+    int total = 0;
+    for (int count : flips) {
+      total += count;
+    }
+    this.totalFlips = total;
+    this.adjacentOpposite = adjacentOpposite;
+  }
+
+  /**
+   * Gets the cell the move places a disc on.
+   * @return the cell of the move
+   */
+  public ReversiCell getCell() {
+    return this.cell;
+  }
+
+  /**
+   * Gets the player the move was analyzed for.
+   * @return the color of the player whose turn it was
+   */
+  public DiscStatus getPlayer() {
+    return this.player;
+  }
+
+  /**
+   * Is the move legal? A move is legal if it flips at least one disc.
+   * @return true if the move is legal, false otherwise
+   */
+  public boolean isLegal() {
+    return this.totalFlips > 0;
+  }
+
+  /**
+   * Is there an opponent disc next to the cell, whether or not the move flips it?.
+   * @return true if any adjacent cell holds an opponent disc, false otherwise
+   */
+  public boolean hasAdjacentOpposite() {
+    return this.adjacentOpposite;
+  }
+
+  /**
+   * Gets the number of discs the move flips in one direction.
+   * @param direction the direction, numbered clockwise from the top right like the game does
+   * @return the number of opponent discs flipped in that direction
+   */
+  public int getFlips(int direction) {
+    return this.flips[direction];
+  }
+
+  /**
+   * Gets the number of discs the move flips in every direction together.
+   * @return the total number of opponent discs flipped
+   */
+  public int getTotalFlips() {
+    return this.totalFlips;
+  }
+
+  /**
+   * Gets the number of directions the move was analyzed in.
+   * @return 6 for hex games, 8 for square games
+   */
+  public int getDirectionCount() {
+    return this.flips.length;
+  }
+
+  int getIndex() {
+    return this.index;
+  }
+
+  /**
+   * Was this analysis made on the given game, with nothing played on it since?.
+   * @param game the game to check
+   * @param version the current version of the game
+   * @return true if the analysis still holds for the game, false otherwise
+   */
+  boolean isCurrent(ReadOnlyReversi game, int version) {
+    return this.game == game && this.version == version;
+  }
+}
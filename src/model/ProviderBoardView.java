@@ -0,0 +1,178 @@
+package cs3500.reversi.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import cs3500.reversi.provider.model.Disc;
+import cs3500.reversi.provider.model.Hexagon;
+
+/**
+ * Live, read-only map view of a hex board in the provider's terms, hexagons as keys and discs
+ * as values. Reads go straight through to the board, so the view never has to be rebuilt after
+ * a move. The hexagons are made once per board size and the discs once per color, and both are
+ * shared by every view, so callers must not change them.
+ */
+class ProviderBoardView extends AbstractMap<Hexagon, Disc> {
+
+  private static final Disc NONE = new Disc(Disc.DiscColor.NONE);
+  private static final Disc BLACK = new Disc(Disc.DiscColor.BLACK);
+  private static final Disc WHITE = new Disc(Disc.DiscColor.WHITE);
+  // hexagon of every cell index, for each board size
+  private static final Map<Integer, Hexagon[]> HEXAGONS = new ConcurrentHashMap<>();
+
+  private final CellRegistry registry;
+  private final IntFunction<DiscStatus> statusAt;
+  private final Hexagon[] hexagons;
+
+  /**
+   * Constructs the map view of the given game.
+   * @param game the game to read through to
+   * @throws IllegalArgumentException if the game is not played on a hex board
+   */
+  ProviderBoardView(ReadOnlyReversi game) {
+    this(CellRegistry.forHex(game.getGridSize()), game);
+  }
+
+  private ProviderBoardView(CellRegistry registry, ReadOnlyReversi game) {
+    this(registry, index -> game.getStatus(registry.getCell(index)));
+  }
+
+  /**
+   * Constructs the map view of a hex board read by cell index.
+   * @param registry the hexes of the board
+   * @param statusAt gets the status of the cell at an index
+   */
+  ProviderBoardView(CellRegistry registry, IntFunction<DiscStatus> statusAt) {
+    this.registry = registry;
+    this.statusAt = statusAt;
+    this.hexagons = HEXAGONS.computeIfAbsent(registry.getGridSize(), size -> {
+      Hexagon[] made = new Hexagon[registry.getCellCount()];
+      for (int i = 0; i < made.length; i++) {
+        // their x is our s negated, their y our r negated
+        ReversiCell hex = registry.getCell(i);
+        made[i] = new Hexagon(-hex.getS(), -hex.getR());
+      }
+      return made;
+    });
+  }
+
+  private int indexOf(Object key) {
+    if (!(key instanceof Hexagon)) {
+      return -1;
+    }
+    Hexagon hexagon = (Hexagon) key;
+    int r = -hexagon.getY();
+    int s = -hexagon.getX();
+    return this.registry.getHexIndex(-r - s, r, s);
+  }
+
+  /**
+   * Gets the shared disc of the given status.
+   * @param status the status of a cell of our game
+   * @return the disc with the matching color
+   */
+  static Disc toDisc(DiscStatus status) {
+    switch (status) {
+      case White:
+        return WHITE;
+      case Black:
+        return BLACK;
+      case Empty:
+        return NONE;
+      default:
+        throw new IllegalArgumentException("Disc color not supported");
+    }
+  }
+
+  private Disc discAt(int index) {
+    return toDisc(this.statusAt.apply(index));
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return this.indexOf(key) >= 0;
+  }
+
+  @Override
+  public Disc get(Object key) {
+    int index = this.indexOf(key);
+    return index < 0 ? null : this.discAt(index);
+  }
+
+  @Override
+  public int size() {
+    return this.hexagons.length;
+  }
+
+  @Override
+  public Set<Hexagon> keySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Hexagon> iterator() {
+        return new Iterator<>() {
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < hexagons.length;
+          }
+
+          @Override
+          public Hexagon next() {
+            if (!this.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            return hexagons[next++];
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return ProviderBoardView.this.containsKey(o);
+      }
+
+      @Override
+      public int size() {
+        return ProviderBoardView.this.size();
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<Hexagon, Disc>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Hexagon, Disc>> iterator() {
+        return new Iterator<>() {
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < hexagons.length;
+          }
+
+          @Override
+          public Entry<Hexagon, Disc> next() {
+            if (!this.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            int index = next++;
+            return new SimpleImmutableEntry<>(hexagons[index], discAt(index));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ProviderBoardView.this.size();
+      }
+    };
+  }
+}
@@ -0,0 +1,327 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.Optional;
+
+import cs3500.reversi.provider.controller.ModelFeatures;
+import cs3500.reversi.provider.model.Disc;
+import cs3500.reversi.provider.model.Hexagon;
+import cs3500.reversi.provider.model.MutableReversiModel;
+
+/**
+ * A copy of a hex game for provider code to try moves on, made without copying the board. The
+ * fork reads the discs it has not changed from the game it was made from and keeps only the
+ * cells it changed itself, so making one costs next to nothing and the game it came from is
+ * never touched. The game it came from must not change while the fork is in use.
+ */
+class ProviderGameFork implements MutableReversiModel {
+
+  private final ReadOnlyReversi root;
+  // position of the root when the fork was made, to tell if the root changed under it
+  private final long rootHash;
+  private final CellRegistry registry;
+  private final RayTable rays;
+  // cells this fork changed, null until the first move, null entries read from the root
+  private DiscStatus[] changed;
+  private boolean blackTurn;
+  private int passes;
+  private int blackScore;
+  private int whiteScore;
+  private ProviderBoardView board;
+
+  /**
+   * Constructs a fork of the given game, in the same position with the same player to move.
+   * @param root the game to read unchanged cells from
+   * @throws IllegalArgumentException if the game is not played on a hex board
+   */
+  ProviderGameFork(ReadOnlyReversi root) {
+    this.root = root;
+    this.rootHash = root.getPositionHash();
+    this.registry = CellRegistry.forHex(root.getGridSize());
+    this.rays = RayTable.forRegistry(this.registry);
+    this.blackTurn = root.isBlackTurn();
+    this.passes = root.getConsecutivePasses();
+    this.blackScore = root.getBlackScore();
+    this.whiteScore = root.getWhiteScore();
+  }
+
+  /**
+   * Constructs a fork of another fork, with its own copy of the cells the other changed.
+   */
+  private ProviderGameFork(ProviderGameFork other) {
+    this.root = other.root;
+    this.rootHash = other.rootHash;
+    this.registry = other.registry;
+    this.rays = other.rays;
+    this.changed = other.changed == null ? null : other.changed.clone();
+    this.blackTurn = other.blackTurn;
+    this.passes = other.passes;
+    this.blackScore = other.blackScore;
+    this.whiteScore = other.whiteScore;
+  }
+
+  /**
+   * Gets the status of a cell in this fork's position.
+   * @throws IllegalStateException if the game the fork was made from has changed
+   */
+  private DiscStatus statusAt(int index) {
+    if (this.changed != null && this.changed[index] != null) {
+      return this.changed[index];
+    }
+    if (this.root.getPositionHash() != this.rootHash) {
+      throw new IllegalStateException("Game was changed after it was copied.");
+    }
+    return this.root.getStatus(this.registry.getCell(index));
+  }
+
+  private int indexOf(Hexagon tile) {
+    // their x is our s negated, their y our r negated
+    int r = -tile.getY();
+    int s = -tile.getX();
+    return this.registry.getHexIndex(-r - s, r, s);
+  }
+
+  /**
+   * Counts the opponent discs along a ray that are closed off by one of the player's discs.
+   */
+  private int countFlips(int[] ray, DiscStatus own) {
+    for (int i = 0; i < ray.length; i++) {
+      DiscStatus status = this.statusAt(ray[i]);
+      if (status == DiscStatus.Empty) {
+        return 0;
+      } else if (status == own) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  private boolean isLegal(int index, DiscStatus own) {
+    if (this.statusAt(index) != DiscStatus.Empty) {
+      return false;
+    }
+    for (int d = 0; d < this.rays.getDirectionCount(); d++) {
+      if (this.countFlips(this.rays.getRay(index, d), own) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void setStatus(int index, DiscStatus status) {
+    if (this.changed == null) {
+      this.changed = new DiscStatus[this.registry.getCellCount()];
+    }
+    this.changed[index] = status;
+  }
+
+  /**
+   * Places the current disc at a specified position, ending the current turn.
+   *
+   * @param tile the hexagonal tile of the game board
+   * @throws IllegalStateException    if the game is over OR the move cannot be legally played
+   * @throws IllegalArgumentException if the given hexagon tile is invalid
+   */
+  @Override
+  public void placeDisc(Hexagon tile) throws IllegalStateException, IllegalArgumentException {
+    if (this.gameOver()) {
+      throw new IllegalStateException("Game not started yet or game is already over.");
+    }
+    int index = this.indexOf(tile);
+    if (index < 0) {
+      throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
+    }
+    if (this.statusAt(index) != DiscStatus.Empty) {
+      throw new IllegalStateException("Cannot place a dic on a non-empty cell.");
+    }
+
+    DiscStatus own = this.blackTurn ? DiscStatus.Black : DiscStatus.White;
+    int flipped = 0;
+    for (int d = 0; d < this.rays.getDirectionCount(); d++) {
+      int[] ray = this.rays.getRay(index, d);
+      int count = this.countFlips(ray, own);
+      for (int i = 0; i < count; i++) {
+        this.setStatus(ray[i], own);
+      }
+      flipped += count;
+    }
+    if (flipped == 0) {
+      throw new IllegalStateException("Move does not flip any discs.");
+    }
+    this.setStatus(index, own);
+
+    if (this.blackTurn) {
+      this.blackScore += flipped + 1;
+      this.whiteScore -= flipped;
+    } else {
+      this.whiteScore += flipped + 1;
+      this.blackScore -= flipped;
+    }
+    this.blackTurn = !this.blackTurn;
+    this.passes = 0;
+  }
+
+  /**
+   * Immediately ends the current turn without making a move.
+   *
+   * @throws IllegalStateException if the game is over
+   */
+  @Override
+  public void passTurn() throws IllegalStateException {
+    if (this.gameOver()) {
+      throw new IllegalStateException("Game not started yet or game is already over.");
+    }
+    this.passes++;
+    this.blackTurn = !this.blackTurn;
+  }
+
+  /**
+   * Forks take no listeners, nothing is ever told about their moves.
+   *
+   * @param feature the feature to be added
+   * @return always 0
+   */
+  @Override
+  public int addFeatures(ModelFeatures feature) throws IllegalArgumentException {
+    return 0;
+  }
+
+  /**
+   * A fork is a copy of a game in progress, it cannot be started again.
+   *
+   * @throws IllegalStateException always
+   */
+  @Override
+  public void startGame() throws IllegalStateException {
+    throw new IllegalStateException("Copied games have already started.");
+  }
+
+  /**
+   * Gets the board of the fork, as a live read-only view that follows every move. The hexagons
+   * and discs in it are shared and must not be changed.
+   *
+   * @return the game board
+   */
+  @Override
+  public Map<Hexagon, Disc> getBoard() {
+    if (this.board == null) {
+      this.board = new ProviderBoardView(this.registry, this::statusAt);
+    }
+    return this.board;
+  }
+
+  /**
+   * Determines whether the player to move can make any move, whatever the color given.
+   *
+   * @param color the disc color
+   * @return true if the disc for this turn can be placed on at least one position
+   */
+  @Override
+  public boolean canPlaceDisc(Disc color) {
+    DiscStatus own = this.blackTurn ? DiscStatus.Black : DiscStatus.White;
+    for (int i = 0; i < this.registry.getCellCount(); i++) {
+      if (this.isLegal(i, own)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the game is over, with both players having passed in a row.
+   *
+   * @return <code>true</code> if the game is over and <code>false</code> otherwise
+   */
+  @Override
+  public boolean gameOver() {
+    return this.passes >= 2;
+  }
+
+  /**
+   * Get the disc at the given hexagonal tile.
+   *
+   * @param tile the hexagonal tile of the game board
+   * @return the disc corresponding to the given position
+   * @throws IllegalArgumentException if the given hexagon tile is invalid
+   */
+  @Override
+  public Disc getDisc(Hexagon tile) throws IllegalArgumentException {
+    int index = this.indexOf(tile);
+    if (index < 0) {
+      throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
+    }
+    return new Disc(ProviderBoardView.toDisc(this.statusAt(index)).getDiscColor());
+  }
+
+  /**
+   * Gets the current turn.
+   *
+   * @return the current turn
+   */
+  @Override
+  public Disc getTurn() {
+    return new Disc(this.blackTurn ? Disc.DiscColor.BLACK : Disc.DiscColor.WHITE);
+  }
+
+  /**
+   * Gets the current score of the game for the given disc.
+   *
+   * @param turn the disc to count the score of
+   * @return the total score for the given disc
+   */
+  @Override
+  public int getScore(Disc turn) {
+    return turn.getDiscColor() == Disc.DiscColor.BLACK ? this.blackScore : this.whiteScore;
+  }
+
+  /**
+   * Gets the side length of the regular hexagonal board.
+   *
+   * @return the side length
+   */
+  @Override
+  public int getGameBoardSideLength() {
+    return (this.registry.getGridSize() + 1) / 2;
+  }
+
+  /**
+   * Gets the number of consecutive passes that are occurring in the game.
+   *
+   * @return the number of consecutive passes
+   */
+  @Override
+  public int getConsecutivePasses() {
+    return this.passes;
+  }
+
+  /**
+   * Gets the maximum number of consecutive passes that are allowed in the game.
+   *
+   * @return the maximum number of consecutive passes that are allowed in the game, if there is one
+   */
+  @Override
+  public Optional<Integer> getMaxNumConsecutivePassesAllowed() {
+    return Optional.of(2);
+  }
+
+  /**
+   * Gets the disc of the player with the higher score, black on a tie.
+   *
+   * @return the winner
+   */
+  @Override
+  public Disc getWinner() throws IllegalStateException {
+    return new Disc(this.blackScore >= this.whiteScore ? Disc.DiscColor.BLACK
+            : Disc.DiscColor.WHITE);
+  }
+
+  /**
+   * Forks this fork, the new one with its own copy of the cells this one changed.
+   *
+   * @return a copy of the Reversi game
+   */
+  @Override
+  public MutableReversiModel copyGame() {
+    return new ProviderGameFork(this);
+  }
+}
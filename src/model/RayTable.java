@@ -0,0 +1,71 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ray of cells going out from every cell of a board in every direction, all the way to the
+ * edge of the board. Rays hold the indices of a {@link CellRegistry} in order, nearest cell
+ * first, so finding the discs a move flips is a walk along an array instead of stepping
+ * coordinates and checking they are still on the board. Tables never change and are shared by
+ * every board of the same shape and size.
+ */
+public final class RayTable {
+
+  private static final Map<CellRegistry, RayTable> TABLES = new ConcurrentHashMap<>();
+
+  // rays[index][direction] is every index from the cell at index to the edge, not counting itself
+  private final int[][][] rays;
+
+  private RayTable(CellRegistry registry) {
+    this.rays = new int[registry.getCellCount()][registry.getDirectionCount()][];
+    int[] path = new int[registry.getGridSize()];
+    for (int index = 0; index < this.rays.length; index++) {
+      for (int d = 0; d < registry.getDirectionCount(); d++) {
+        int length = 0;
+        int next = registry.getNeighborIndex(index, d);
+        while (next >= 0) {
+          path[length++] = next;
+          next = registry.getNeighborIndex(next, d);
+        }
+        this.rays[index][d] = new int[length];
+        System.arraycopy(path, 0, this.rays[index][d], 0, length);
+      }
+    }
+  }
+
+  /**
+   * Gets the ray table of the board the given registry's cells are on.
+   * @param registry the cells of the board
+   * @return the shared ray table for that board
+   */
+  public static RayTable forRegistry(CellRegistry registry) {
+    return TABLES.computeIfAbsent(registry, RayTable::new);
+  }
+
+  /**
+   * Gets the ray from a cell in a direction. The array is shared, so it must not be changed.
+   * @param index the index of the cell the ray starts from
+   * @param direction the direction, numbered clockwise from the top right like the game does
+   * @return the indices of the cells in that direction, nearest first, empty at the edge
+   */
+  public int[] getRay(int index, int direction) {
+    return this.rays[index][direction];
+  }
+
+  /**
+   * Gets the number of cells the rays start from.
+   * @return the number of cells on the board
+   */
+  public int getCellCount() {
+    return this.rays.length;
+  }
+
+  /**
+   * Gets the number of directions a ray can go in.
+   * @return 6 for hex boards, 8 for square boards
+   */
+  public int getDirectionCount() {
+    return this.rays.length == 0 ? 0 : this.rays[0].length;
+  }
+}
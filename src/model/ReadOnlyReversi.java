@@ -57,6 +57,18 @@ public interface ReadOnlyReversi {
 
   boolean isMoveLegalAt(ReversiCell cell);
 
+  /**
+   * Looks at a cell as a move for the player whose turn it is, counting the discs it would flip
+   * in every direction. The analysis can be played with
+   * {@link ReversiModel#placeDisc(DiscStatus, MoveAnalysis)} until the game changes.
+   *
+   * @param cell The desired cell.
+   * @return the analysis of the move, which is not legal if it flips nothing
+   * @throws IllegalStateException    if game not started yet
+   * @throws IllegalArgumentException if the cell is not on the grid
+   */
+  MoveAnalysis analyzeMove(ReversiCell cell);
+
   /**
    * Determines the black player's score.
    *
@@ -95,6 +107,13 @@ public interface ReadOnlyReversi {
    */
   boolean isBlackTurn();
 
+  /**
+   * Gets a 64-bit hash of the position: the disc on every cell and whose turn it is. Equal
+   * positions on games of the same board always have equal hashes, from one run to the next.
+   * @return the hash of the current position
+   */
+  long getPositionHash();
+
   /**
    * Get the winner of the game, if it is a tie return both players.
    * @return the list of winners
@@ -23,6 +23,17 @@ public interface ReversiModel extends ReadOnlyReversi, ModelFeatures {
    */
   void placeDisc(DiscStatus playerType, ReversiCell cell);
 
+  /**
+   * Method for a player placing a disc on a move that has already been analyzed, flipping the.
+   * discs the analysis counted without counting them again.
+   *
+   * @param move The analysis of the move, from {@link #analyzeMove(ReversiCell)} on this game.
+   * @throws IllegalStateException    if game not started yet, the move is not legal, or the
+   *                                  game has changed since the move was analyzed
+   * @throws IllegalArgumentException if it is not the given player's turn
+   */
+  void placeDisc(DiscStatus playerType, MoveAnalysis move);
+
   /**
    * Determines if there are any hexes on the board that a made can be made on.
    *
@@ -36,4 +47,31 @@ public interface ReversiModel extends ReadOnlyReversi, ModelFeatures {
    * @throws IllegalStateException if game not started yet
    */
   void pass(DiscStatus playerType);
+
+  /**
+   * Places a disc for the player whose turn it is so that it can be taken back with.
+   * {@link #undoMove()}, for trying out moves without copying the game. Observers are not told.
+   *
+   * @param cell The cell to place the disc on.
+   * @throws IllegalStateException    if game not started yet, or the move is not legal
+   * @throws IllegalArgumentException if cell is an invalid coordinate (not on grid)
+   */
+  void doMove(ReversiCell cell);
+
+  /**
+   * Passes the turn of the player whose turn it is so that it can be taken back with.
+   * {@link #undoMove()}.
+   *
+   * @throws IllegalStateException if game not started yet
+   */
+  void doPass();
+
+  /**
+   * Takes back the last move or pass made with {@link #doMove(ReversiCell)} or.
+   * {@link #doPass()}, putting the grid, turn and pass count back the way they were. Placing a
+   * disc or passing any other way cannot be undone and clears the moves made before it.
+   *
+   * @throws IllegalStateException if there is no move to undo
+   */
+  void undoMove();
 }
@@ -1,6 +1,5 @@
 package cs3500.reversi.model;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import cs3500.reversi.provider.controller.ModelFeatures;
@@ -14,6 +13,8 @@ import cs3500.reversi.provider.model.MutableReversiModel;
  */
 public class ReversiModelAdapter implements MutableReversiModel {
   private final ReversiModel ourModel;
+  // made on first use, since only hex games have a board in the provider's terms
+  private ProviderBoardView board;
 
   /**
    * Constructs a reversi model adapter.
@@ -101,18 +102,17 @@ public class ReversiModelAdapter implements MutableReversiModel {
   }
 
   /**
-   * Gets the board for the current game.
+   * Gets the board for the current game, as a live read-only view that follows every move. The
+   * hexagons and discs in it are shared and must not be changed.
    *
    * @return the game board
    */
   @Override
   public Map<Hexagon, Disc> getBoard() {
-    Map<Hexagon, Disc> map = new HashMap<>();
-    for (ReversiCell hex : ourModel.getCopyOfGrid().keySet()) {
-      map.put(new Hexagon(- hex.getS(), - hex.getR()),
-              new Disc(this.ourDiscToTheirs(ourModel.getCopyOfGrid().get(hex))));
+    if (this.board == null) {
+      this.board = new ProviderBoardView(ourModel);
     }
-    return map;
+    return this.board;
   }
 
   private Disc.DiscColor ourDiscToTheirs(DiscStatus status) {
@@ -180,15 +180,15 @@ public class ReversiModelAdapter implements MutableReversiModel {
   }
 
   /**
-   * Gets the current score of the game for the current disc. Each hexagonal tile on the game
+   * Gets the current score of the game for the given disc. Each hexagonal tile on the game
    * board with a matching disc counts for one point.
    *
-   * @param turn the current disc whose turn it is
-   * @return the total score for the current disc whose turn it is
+   * @param turn the disc to count the score of
+   * @return the total score for the given disc
    */
   @Override
   public int getScore(Disc turn) {
-    if (ourModel.isBlackTurn()) {
+    if (turn.getDiscColor() == Disc.DiscColor.BLACK) {
       return ourModel.getBlackScore();
     }
     else {
@@ -203,7 +203,8 @@ public class ReversiModelAdapter implements MutableReversiModel {
    */
   @Override
   public int getGameBoardSideLength() {
-    return ourModel.getGridSize();
+    // our grid size counts the hexes across the middle row, theirs the hexes along one side
+    return (ourModel.getGridSize() + 1) / 2;
   }
 
   /**
@@ -238,15 +239,13 @@ public class ReversiModelAdapter implements MutableReversiModel {
   }
 
   /**
-   * Builds a direct copy of the Reversi game.
+   * Builds a copy of the Reversi game that shares this game's board and keeps only the cells it
+   * changes itself. This game must not change while the copy is in use.
    *
    * @return a copy of the Reversi game
    */
   @Override
   public MutableReversiModel copyGame() {
-    HexReversi model = new HexReversi(ourModel.getGridSize(),
-            new HexGrid(ourModel.getCopyOfGrid(), ourModel.getGridSize()),
-            this.getConsecutivePasses(), ourModel.isGameOver(), ourModel.isBlackTurn());
-    return new ReversiModelAdapter(model);
+    return new ProviderGameFork(ourModel);
   }
 }
@@ -1,11 +1,12 @@
 package cs3500.reversi.model;
 
-import java.util.Objects;
-
 /**
  * The implementation for a square that is a reversi cell, ahs x and y coordinates.
  */
 public class Square implements ReversiCell {
+  // change in x, y when moving to the next square in each direction, clockwise from top right
+  static final int[][] DIRECTIONS = {{1, -1}, {1, 0}, {1, 1}, {0, 1},
+                                     {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}};
 
   private final int x;
   private final int y;
@@ -41,7 +42,9 @@ public class Square implements ReversiCell {
    */
   @Override
   public int hashCode() {
-    return Objects.hash();
+    // spreads neighboring squares across the whole int range, the same way a hex does
+    int hash = this.x * 0x9E3779B1 + this.y;
+    return hash ^ (hash >>> 16);
   }
 
   /**
@@ -5,12 +5,13 @@ import java.util.Map;
 
 /**
  * The grid for a square reversi game, has x and y coordinates instead of q, r, s.
- * and 0,0 is the top left corner.
+ * and 0,0 is the top left corner. Squares are indexed by x then y.
  */
 public class SquareGrid implements Grid {
 
   public Map<ReversiCell, DiscStatus> grid;
   private final int gridSize;
+  private final CellRegistry registry;
 
   /**
    * Constructs the Square Grid representation of a reversi model.
@@ -20,6 +21,7 @@ public class SquareGrid implements Grid {
     // invariant: grid size must be even and positive
     if (gridSize % 2 == 0 && gridSize > 2) {
       this.gridSize = gridSize;
+      this.registry = CellRegistry.forSquare(gridSize);
       grid = new HashMap<>();
     }
     else {
@@ -28,24 +30,19 @@ public class SquareGrid implements Grid {
   }
 
   /**
-   * Makes a hex grid with the given map of hexes to colors and size.
-   * @param grid the map of hexes and their disc status
+   * Makes a square grid with the given map of squares to colors and size.
+   * @param grid the map of squares and their disc status
    * @param gridSize the size of the grid
    */
   public SquareGrid(Map<ReversiCell, DiscStatus> grid, int gridSize) {
-    // invariant: grid size must be odd and greater than or equal to 3 hexes in order to be a valid
-    //grid. If the grid is even it cannot have a center hex, which is needed in the game. If it is
-    //less than 3 then the initial ring of alternating hexes meant to be able to start the game
-    //cannot be created because then the grid you are asking for is too small and you would not be
-    //able to create a ring around the center.
-    //also gridsize cannot change which is enforced by making it final, because grid should not
-    //change sizes mid-game
-    if (gridSize % 2 == 1 && gridSize >= 3) {
+    // invariant: same as a new grid, grid size must be even and positive
+    if (gridSize % 2 == 0 && gridSize > 2) {
       this.gridSize = gridSize;
+      this.registry = CellRegistry.forSquare(gridSize);
       this.grid = grid;
     }
     else {
-      throw new IllegalArgumentException("Grid has to be at least 3 hexes wide and odd.");
+      throw new IllegalArgumentException("Grid has to be positive and even.");
     }
   }
 
@@ -66,7 +63,7 @@ public class SquareGrid implements Grid {
   public void makeGrid() {
     for (int x = 0; x < gridSize; x++) {
       for (int y = 0; y < gridSize; y++) {
-        grid.put(new Square(x, y), DiscStatus.Empty);
+        grid.put(registry.getSquare(x, y), DiscStatus.Empty);
       }
     }
   }
@@ -78,10 +75,10 @@ public class SquareGrid implements Grid {
   public void starterGrid() {
     int middle = (gridSize / 2) - 1;
 
-    grid.replace(new Square(middle, middle), DiscStatus.Empty, DiscStatus.Black);
-    grid.replace(new Square(middle + 1, middle + 1), DiscStatus.Empty, DiscStatus.Black);
-    grid.replace(new Square(middle + 1, middle), DiscStatus.Empty, DiscStatus.White);
-    grid.replace(new Square(middle, middle + 1), DiscStatus.Empty, DiscStatus.White);
+    grid.replace(registry.getSquare(middle, middle), DiscStatus.Empty, DiscStatus.Black);
+    grid.replace(registry.getSquare(middle + 1, middle + 1), DiscStatus.Empty, DiscStatus.Black);
+    grid.replace(registry.getSquare(middle + 1, middle), DiscStatus.Empty, DiscStatus.White);
+    grid.replace(registry.getSquare(middle, middle + 1), DiscStatus.Empty, DiscStatus.White);
   }
 
   /**
@@ -94,14 +91,54 @@ public class SquareGrid implements Grid {
   public DiscStatus getStatus(ReversiCell cell) {
     int x = cell.getX();
     int y = cell.getY();
+    ReversiCell square = registry.getSquare(x, y);
 
-    if (!grid.containsKey(new Square(x, y))) {
+    if (square == null || !grid.containsKey(square)) {
       throw new IllegalArgumentException("Square with given coordinates" +
               " does not exist on this grid.");
     } else {
-      return grid.get(new Square(x, y));
+      return grid.get(square);
+    }
+
+  }
+
+  @Override
+  public int getCellCount() {
+    return grid.isEmpty() ? 0 : gridSize * gridSize;
+  }
+
+  @Override
+  public int getIndex(ReversiCell cell) {
+    int index = registry.getSquareIndex(cell.getX(), cell.getY());
+
+    if (index < 0 || !grid.containsKey(registry.getCell(index))) {
+      return -1;
     }
+    return index;
+  }
 
+  @Override
+  public ReversiCell getCell(int index) {
+    return registry.getCell(index);
+  }
+
+  @Override
+  public DiscStatus getStatusAt(int index) {
+    return grid.get(this.getCell(index));
+  }
+
+  @Override
+  public void setStatusAt(int index, DiscStatus status) {
+    grid.replace(this.getCell(index), status);
+  }
+
+  @Override
+  public int getNeighbor(int index, int direction) {
+    int neighbor = registry.getNeighborIndex(index, direction);
+    if (neighbor < 0 || !grid.containsKey(registry.getCell(neighbor))) {
+      return -1;
+    }
+    return neighbor;
   }
 
 }
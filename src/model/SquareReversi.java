@@ -1,6 +1,7 @@
 package cs3500.reversi.model;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,27 +12,42 @@ import java.util.Map;
  */
 public class SquareReversi extends AbstractReversi implements ReversiModel {
 
-  // grid that players interact with
-  private final Grid grid;
+  // the grid when it is stored as bitboards, null otherwise
+  private final BitboardSquareGrid bitboard;
   private final int gridSize;
 
   /**
    * Constructs default square reversi model of 8 squares by 8 squares.
    */
   public SquareReversi() {
-    super();
-    this.gridSize = 8;
-    this.grid = new SquareGrid(this.gridSize);
+    this(8);
   }
 
   /**
-   * Constructs square reversi model based on given grid size.
+   * Constructs square reversi model based on given grid size. An 8x8 grid is stored as bitboards.
    * @param gridSize The number of squares on the side of the grid
    */
   public SquareReversi(int gridSize) {
-    super();
+    super(gridSize == BitboardSquareGrid.SIZE ? new BitboardSquareGrid() : new SquareGrid(gridSize),
+            RayTable.forRegistry(CellRegistry.forSquare(gridSize)));
     this.gridSize = gridSize;
-    this.grid = new SquareGrid(gridSize);
+    this.bitboard = this.grid instanceof BitboardSquareGrid ? (BitboardSquareGrid) this.grid : null;
+  }
+
+  /**
+   * Constructs a square reversi game with all its information/fields.
+   * @param gridSize size of grid
+   * @param grid the square grid of the game
+   * @param consecutivePass number of consecutive passes
+   * @param isGameOver boolean that tells if game is over or not
+   * @param blackTurn boolean that determines whose turn it is
+   */
+  public SquareReversi(int gridSize, Grid grid, int consecutivePass, boolean isGameOver,
+                       boolean blackTurn) {
+    super(gridSize, grid, RayTable.forRegistry(CellRegistry.forSquare(gridSize)), consecutivePass,
+            isGameOver, blackTurn);
+    this.gridSize = gridSize;
+    this.bitboard = grid instanceof BitboardSquareGrid ? (BitboardSquareGrid) grid : null;
   }
 
   /**
@@ -46,8 +62,10 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
     grid.makeGrid();
     // make first ring around center alternating
     grid.starterGrid();
+    this.refreshFromGrid();
     // sets game over to false, game is now in progress
     this.isGameOver = false;
+    this.version++;
   }
 
   @Override
@@ -55,53 +73,66 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
     super.gameNotStartedWarning();
     super.wrongPlayerWarning(playerType);
 
-    int x = cell.getX();
-    int y = cell.getY();
+    int index = grid.getIndex(cell);
 
-    if (!grid.getGrid().containsKey(new Square(x, y))) {
+    if (index < 0) {
       throw new IllegalArgumentException("Hex with given coordinates does not exist on this grid.");
     }
 
-    if (!grid.getGrid().get(new Square(x, y)).equals(DiscStatus.Empty)) {
+    if (!grid.getStatusAt(index).equals(DiscStatus.Empty)) {
       throw new IllegalStateException("Cannot place a dic on a non-empty cell.");
     }
 
-    List<Boolean> loMovesMade = this.validatePlaceDiscMove(cell);
-
-    // if all adjacent opposite hexes were null (clicked cell is
-    // not adjacent to an opponent cell)
-    if (loMovesMade.isEmpty()) {
-      throw new IllegalStateException("No adjacent opposite hexes.");
+    if (this.bitboard != null) {
+      this.placeDiscBitboard(cell.getX(), cell.getY());
+      return;
     }
 
-    // if for all adjacent opponent cells, no moves were allowable
-    else if (!super.checkListContainsTrue(loMovesMade)) {
+    // counts the flips in every direction once, then flips them if the move is allowable
+    this.placeDisc(playerType, this.analyzeMove(cell));
+  }
+
+  /**
+   * Places a disc on the bitboard grid, flipping every opponent disc it surrounds in one sweep.
+   * Throws the same errors as {@link #validatePlaceDiscMove(ReversiCell)} for illegal moves.
+   *
+   * @param x the x coordinate of the empty square
+   * @param y the y coordinate of the empty square
+   */
+  private void placeDiscBitboard(int x, int y) {
+    long move = BitboardSquareGrid.bit(x, y);
+    long flips = this.bitboard.getFlips(move, blackTurn);
+
+    if (flips == 0) {
+      if (!this.bitboard.hasAdjacentOpposite(move, blackTurn)) {
+        throw new IllegalStateException("No adjacent opposite color cells.");
+      }
       throw new IllegalStateException("Adjacent opposite hexes present, but no moves allowable.");
     }
-
-    // if move was allowable, switch turns and clear consecutive pass counter
-    else {
-      blackTurn = !blackTurn;
-      this.consecutivePass = 0;
+    this.bitboard.applyMove(move, flips, blackTurn);
+    // the bitboard changed its squares itself, so the counts and hash only need to catch up
+    DiscStatus player = blackTurn ? DiscStatus.Black : DiscStatus.White;
+    DiscStatus opponent = blackTurn ? DiscStatus.White : DiscStatus.Black;
+    this.recordChange(Long.numberOfTrailingZeros(move), DiscStatus.Empty, player);
+    for (long bits = flips; bits != 0; bits &= bits - 1) {
+      this.recordChange(Long.numberOfTrailingZeros(bits), opponent, player);
     }
+    this.endPlacedMove();
   }
 
   /**
-   * {@inheritDoc}
+   * Gets the indices of every legal move of the player whose turn it is. A bitboard grid finds
+   * them all in one sweep, so there is nothing to keep up to date between moves.
+   *
+   * @return the indices of the legal moves, in index order
    */
   @Override
-  public List<ReversiCell> getPossibleMoves() {
-    super.gameNotStartedWarning();
-    List<ReversiCell> loPossibleMoves = new ArrayList<>();
-
-    for (int x = 0; x < this.gridSize; x++) {
-      for (int y = 0; y < this.gridSize; y++) {
-        if (this.isMoveLegalAt(new Square(x, y))) {
-          loPossibleMoves.add(new Square(x, y));
-        }
-      }
+  protected BitSet getLegalMoves() {
+    if (this.bitboard != null) {
+      // bits are ordered by x then y, the same order as the indices
+      return BitSet.valueOf(new long[] {this.bitboard.getLegalMoves(blackTurn)});
     }
-    return loPossibleMoves;
+    return super.getLegalMoves();
   }
 
   /**
@@ -117,66 +148,23 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
     int y = cell.getY();
 
     super.gameNotStartedWarning();
-    if (!grid.getGrid().containsKey(new Square(x, y))
-            || !grid.getGrid().get(new Square(x, y)).equals(DiscStatus.Empty)) {
-      return false;
+    if (this.bitboard != null) {
+      long move = BitboardSquareGrid.bit(x, y);
+      return this.bitboard.isOnGrid(x, y)
+              && (this.bitboard.getDiscs(DiscStatus.Empty) & move) != 0
+              && this.bitboard.getFlips(move, blackTurn) != 0;
     }
-    // gets all the adjacent opponent hexes to clicked cell
-    List<Boolean> loMovesMade = super.validateTryPlaceDisc(cell);
-
-    // have list of booleans be returned without making changes
-
-    // if all adjacent opposite hexes were null (clicked cell is
-    // not adjacent to an opponent cell) and no moves allowable
-    return !loMovesMade.isEmpty() && this.checkListContainsTrue(loMovesMade);
+    int index = grid.getIndex(cell);
+    // legal if in any direction there is a path of opponent squares that ends in a player square
+    return index >= 0 && this.getLegalMoves().get(index);
   }
 
   @Override
   public Boolean tryPlaceDisc(ReversiCell adjSquare, int i) {
-    // switches between possible i (direction of path of opponent cells adjacent to target hex)
-    switch (i) {
-      // top right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 0:
-        return this.numOppositeHexes(adjSquare, 1, -1, 0) > 0;
-
-      // right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 1:
-        return this.numOppositeHexes(adjSquare, 1, 0, 0) > 0;
-
-      // bottom right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 2:
-        return this.numOppositeHexes(adjSquare, 1, 1, 0) > 0;
-
-      // bottom : if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 3:
-        return this.numOppositeHexes(adjSquare, 0, 1, 0) > 0;
-
-      // bottom left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 4:
-        return this.numOppositeHexes(adjSquare, -1, 1, 0) > 0;
-
-      // left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 5:
-        return this.numOppositeHexes(adjSquare, -1, 0, 0) > 0;
-
-      // top left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 6:
-        return this.numOppositeHexes(adjSquare, -1, -1, 0) > 0;
-
-      // top : if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 7:
-        return this.numOppositeHexes(adjSquare, 0, -1, 0) > 0;
-      default:
-        throw new IllegalArgumentException("Direction cannot be handled.");
-    }
+    int[] dir = this.getDirectionChange(i);
+    // if opponent square path adjacent to clicked cell has surrounding player square,
+    // move is allowable
+    return this.numOppositeHexes(adjSquare, dir[0], dir[1], 0) > 0;
   }
 
   /**
@@ -189,9 +177,6 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
    */
   @Override
   public List<Boolean> validatePlaceDiscMove(ReversiCell cell) {
-    int x = cell.getX();
-    int y = cell.getY();
-
     List<ReversiCell> loAdjacentOpposite = this.getAdjacentOpposite(cell);
     if (super.checkListNull(loAdjacentOpposite)) {
       throw new IllegalStateException("No adjacent opposite color cells.");
@@ -203,7 +188,7 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
       if (loAdjacentOpposite.get(i) != null) {
         // calls method to make move and make applicable changes if allowable
         // adds a boolean to loMoves (true if a successful move, false if not)
-        loMovesMade.add(this.placeDiscHelper(new Square(x, y), loAdjacentOpposite.get(i), i));
+        loMovesMade.add(this.placeDiscHelper(cell, loAdjacentOpposite.get(i), i));
       }
     }
     return loMovesMade;
@@ -220,66 +205,33 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
    */
   @Override
   public DiscStatus getStatus(ReversiCell cell) {
-    int x = cell.getX();
-    int y = cell.getY();
-
-    return grid.getStatus(new Square(x, y));
+    return grid.getStatus(cell);
   }
 
-  /**
-   * Determines number of opponent hexes in between clicked hex and surrounding player hex
-   * (0 if no surrounding player cell exists and move is not valid).
-   *
-   * @param adjSquare Opponent hex adjacent to clicked hex.
-   * @param xDir      The number change in axis q when traveling along path of adjacent cell.
-   * @param yDir      The number change in axis r when traveling along path of adjacent cell.
-   * @param na        The number change in axis s when traveling along path of adjacent cell.
-   * @return The number of opponent hexes plus clicked cell needed to flip
-   */
   @Override
   public int numOppositeHexes(ReversiCell adjSquare, int xDir, int yDir, int na) {
-
-    int numHexesInBetween = 0;
-    DiscStatus oppositeStatus;
-
-    // get opposite color of player, same as adjacent hex
-    if (grid.getGrid().get(adjSquare).equals(DiscStatus.White)) {
-      oppositeStatus = DiscStatus.White;
-    } else {
-      oppositeStatus = DiscStatus.Black;
+    int index = grid.getIndex(adjSquare);
+    if (index < 0) {
+      throw new IllegalArgumentException("Square with given coordinates"
+              + " does not exist on this grid.");
     }
+    return this.numOppositeHexes(index, this.getDirection(xDir, yDir));
+  }
 
-    // get initial coordinates of adjacent hex
-    int x = adjSquare.getX();
-    int y = adjSquare.getY();
-
-    // traverse through same path of adjacent hex, from player-clicked hex
-    // while in grid, follow path of adjacent hex and find how many opposite colored cells exist
-    while (grid.getGrid().containsKey(new Square(x, y))) {
-
-      // if opposite color, move to next and add 1
-      if (grid.getGrid().get(new Square(x, y)).equals(oppositeStatus)) {
-        numHexesInBetween++;
-        x += xDir;
-        y += yDir;
-        continue;
+  /**
+   * Gets the direction number of the path that changes each axis by the given amounts.
+   *
+   * @param xDir The number change in axis x when traveling along the path.
+   * @param yDir The number change in axis y when traveling along the path.
+   * @return the direction, 0 to 7 starting at top right.
+   */
+  private int getDirection(int xDir, int yDir) {
+    for (int i = 0; i < Square.DIRECTIONS.length; i++) {
+      if (Square.DIRECTIONS[i][0] == xDir && Square.DIRECTIONS[i][1] == yDir) {
+        return i;
       }
-      // if not opponent color, break out
-      break;
-    }
-
-    // if current hex is not on the grid, return 0, no surrounding cell
-    if (!grid.getGrid().containsKey(new Square(x, y))) {
-      return 0;
-    }
-    // if surrounding cell is player color (not opponent's and not empty),
-    // return number of cells traversed
-    if (!grid.getGrid().get(new Square(x, y)).equals(oppositeStatus)
-            && !grid.getGrid().get(new Square(x, y)).equals(DiscStatus.Empty)) {
-      return numHexesInBetween;
-    } else {
-      return 0;
     }
+    throw new IllegalArgumentException("Direction cannot be handled.");
   }
 
   /**
@@ -292,6 +244,7 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
   public List<ReversiCell> getAdjacentOpposite(ReversiCell cell) {
     int x = cell.getX();
     int y = cell.getY();
+    int index = grid.getIndex(cell);
 
     DiscStatus oppositeStatus;
     // determine opponent cell color based on turn
@@ -306,64 +259,34 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
       loAdjacent.add(null);
     }
 
-    // TOP RIGHT: if hex to the top right of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(x + 1, y - 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(0, new Square(x + 1, y - 1));
-    }
-    // RIGHT: if hex to the right of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(x + 1, y, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(1, new Square(x + 1, y));
-    }
-    // BOTTOM RIGHT: if hex to the bottom right of clicked cell is on the grid,
-    // and the opposite color
-    if (this.checkCellOnGridAndOpposite(x + 1, y + 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(2, new Square(x + 1, y + 1));
-    }
-    // BOTTOM : if hex to the bottom of clicked cell is on the grid,
-    // and the opposite color
-    if (this.checkCellOnGridAndOpposite(x, y + 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(3, new Square(x, y + 1));
-    }
-    // BOTTOM LEFT: if hex to the bottom left of clicked cell is on the grid,
-    // and the opposite color
-    if (this.checkCellOnGridAndOpposite(x - 1, y + 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(4, new Square(x - 1, y + 1));
-    }
-    // LEFT: if hex to the left of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(x - 1, y, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(5, new Square(x - 1, y));
-    }
-    // TOP LEFT: if hex to the top left of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(x - 1, y - 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(6, new Square(x - 1, y - 1));
-    }
-    // TOP : if hex to the top of clicked cell is on the grid, and the opposite color
-    if (this.checkCellOnGridAndOpposite(x, y - 1, oppositeStatus)) {
-      // add hex at index 0
-      loAdjacent.set(7, new Square(x, y - 1));
+    // in every direction (top right, right, bottom right, bottom, bottom left, left, top left,
+    // top), if the square next to the clicked cell is on the grid and the opposite color, add it
+    // at that index
+    for (int i = 0; i < Square.DIRECTIONS.length; i++) {
+      int adjacent;
+      if (index >= 0) {
+        adjacent = grid.getNeighbor(index, i);
+      } else {
+        // clicked cell is off the grid, but its neighbor might not be
+        adjacent = this.getIndexOnGrid(x + Square.DIRECTIONS[i][0], y + Square.DIRECTIONS[i][1]);
+      }
+      if (adjacent >= 0 && grid.getStatusAt(adjacent).equals(oppositeStatus)) {
+        loAdjacent.set(i, grid.getCell(adjacent));
+      }
     }
-    List<ReversiCell> loAdjacentCopy = new ArrayList<>(loAdjacent);
-    return loAdjacentCopy;
+    return loAdjacent;
   }
 
   /**
-   * Is the cell passed in the opposite color of the current player and on the grid?.
+   * Gets the index of the square at the given coordinates on the grid.
    *
-   * @param x              coordinate of given cell
-   * @param y              coordinate of given cell
-   * @param oppositeStatus opposite status of current player
-   * @return true if cell passed in is opposite the current player, false otherwise
+   * @param x coordinate of the square
+   * @param y coordinate of the square
+   * @return the index of the square, -1 if it is not on the grid
    */
-  private boolean checkCellOnGridAndOpposite(int x, int y, DiscStatus oppositeStatus) {
-    return grid.getGrid().containsKey(new Square(x, y))
-            && grid.getGrid().get(new Square(x, y)).equals(oppositeStatus);
+  private int getIndexOnGrid(int x, int y) {
+    ReversiCell square = CellRegistry.forSquare(gridSize).getSquare(x, y);
+    return square == null ? -1 : grid.getIndex(square);
   }
 
   /**
@@ -378,92 +301,29 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
    */
   @Override
   public boolean placeDiscHelper(ReversiCell targetSquare, ReversiCell adjSquare, int i) {
+    int[] dir = this.getDirectionChange(i);
+    // if opponent square path adjacent to clicked cell has surrounding player square,
+    // make resulting changes to board
+    int numSquaresInBetween = this.numOppositeHexes(adjSquare, dir[0], dir[1], 0);
+    if (numSquaresInBetween > 0) {
+      this.makeChanges(targetSquare, numSquaresInBetween, dir[0], dir[1], 0);
+      return true;
+    }
+    return false;
+  }
 
-    // switches between possible i (direction of path of opponent cells adjacent to target hex)
-    switch (i) {
-      // top right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 0:
-        if (this.numOppositeHexes(adjSquare, 1, -1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, 1, -1, 0),
-                  1, -1, 0);
-          return true;
-        }
-        return false;
-      // right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 1:
-        if (this.numOppositeHexes(adjSquare, 1, 0, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, 1, 0, 0),
-                  1, 0, 0);
-          return true;
-        }
-        return false;
-      // bottom right: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 2:
-        if (this.numOppositeHexes(adjSquare, 1, 1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, 1, 1, 0),
-                  1, 1, 0);
-          return true;
-        }
-        return false;
-      // bottom : if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 3:
-        if (this.numOppositeHexes(adjSquare, 0, 1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, 0, 1, 0),
-                  0, 1, 0);
-          return true;
-        }
-        return false;
-      // bottom left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 4:
-        if (this.numOppositeHexes(adjSquare, -1, 1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, -1, 1, 0),
-                  -1, 1, 0);
-          return true;
-        }
-        return false;
-      // left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 5:
-        if (this.numOppositeHexes(adjSquare, -1, 0, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, -1, 0, 0),
-                  -1, 0, 0);
-          return true;
-        }
-        return false;
-      // top left: if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 6:
-        if (this.numOppositeHexes(adjSquare, -1, -1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, -1, -1, 0),
-                  -1, -1, 0);
-          return true;
-        }
-        return false;
-      // top : if opponent hex path adjacent to clicked cell has surrounding player hex,
-      // make resulting changes to board
-      case 7:
-        if (this.numOppositeHexes(adjSquare, 0, -1, 0) > 0) {
-          this.makeChanges(targetSquare,
-                  this.numOppositeHexes(adjSquare, 0, -1, 0),
-                  0, -1, 0);
-          return true;
-        }
-        return false;
-      default:
-        throw new IllegalArgumentException("Direction cannot be handled.");
+  /**
+   * Gets the change in each axis when traveling one square in the given direction.
+   *
+   * @param i The direction, 0 to 7 starting at top right.
+   * @return the change in x and y.
+   * @throws IllegalArgumentException if there is no such direction
+   */
+  private int[] getDirectionChange(int i) {
+    if (i < 0 || i >= Square.DIRECTIONS.length) {
+      throw new IllegalArgumentException("Direction cannot be handled.");
     }
+    return Square.DIRECTIONS[i];
   }
 
 
@@ -491,18 +351,17 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
       playerColor = DiscStatus.White;
     }
 
-    // get initial coordinates of adjacent hex
-    int x = targetSquare.getX();
-    int y = targetSquare.getY();
-
-    // starting at clicked hex, starts flipping colors of hexes
-    for (int i = 0; i <= numSquaresInBetween; i++) {
-      Square currSquare = new Square(x, y);
-      grid.getGrid().replace(currSquare, playerColor);
+    int direction = this.getDirection(xDir, yDir);
+    int index = grid.getIndex(targetSquare);
+    if (index < 0) {
+      return;
+    }
 
-      // update coordinates, startGame to next hex in path
-      x += xDir;
-      y += yDir;
+    // starting at clicked square, flips colors of squares along the path
+    this.setCell(index, playerColor);
+    int[] ray = rays.getRay(index, direction);
+    for (int i = 0; i < numSquaresInBetween && i < ray.length; i++) {
+      this.setCell(ray[i], playerColor);
     }
   }
 
@@ -514,31 +373,13 @@ public class SquareReversi extends AbstractReversi implements ReversiModel {
   @Override
   public Map<ReversiCell, DiscStatus> getCopyOfGrid() {
     Map<ReversiCell, DiscStatus> currGrid = new HashMap<>();
-    for (ReversiCell square : this.grid.getGrid().keySet()) {
-      currGrid.put(new Square(square.getX(), square.getY()), this.grid.getGrid().get(square));
+    // squares never change, so the copy can share them
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      currGrid.put(grid.getCell(i), grid.getStatusAt(i));
     }
     return currGrid;
   }
 
-  /**
-   * Calculates how many hexes on a grid are of the given disc status.
-   *
-   * @param status The disc status we are calculating for.
-   * @return The number of hexes on a grid are of the given disc status.
-   */
-  @Override
-  public int getScoreHelper(DiscStatus status) {
-    int score = 0;
-    for (int x = 0; x < this.gridSize; x++) {
-      for (int y = 0; y < this.gridSize; y++) {
-        if (grid.getGrid().get(new Square(x, y)) == status) {
-          score += 1;
-        }
-      }
-    }
-    return score;
-  }
-
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,74 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The random keys a position hash is made of: one for a black disc and one for a white disc on
+ * every cell index, and one for white being the player to move. A position's hash is the XOR of
+ * the keys of everything on it, so placing, flipping or passing changes it with a single XOR.
+ * Keys come from a fixed seed and the key of an index is the same for every board size, so a
+ * hash means the same position from one run to the next. Tables never change and are shared by
+ * every board with the same number of cells.
+ */
+public final class ZobristKeys {
+
+  private static final Map<Integer, ZobristKeys> TABLES = new ConcurrentHashMap<>();
+  private static final long SEED = 0x5DEECE66DL;
+
+  // keys[index * 2] for a black disc on the cell, keys[index * 2 + 1] for a white disc
+  private final long[] keys;
+  private final long whiteToMove;
+
+  private ZobristKeys(int cellCount) {
+    long state = SEED;
+    this.whiteToMove = mix(state += 0x9E3779B97F4A7C15L);
+    this.keys = new long[cellCount * 2];
+    for (int i = 0; i < this.keys.length; i++) {
+      this.keys[i] = mix(state += 0x9E3779B97F4A7C15L);
+    }
+  }
+
+  /**
+   * Gets the keys for a board with the given number of cells.
+   * @param cellCount the number of cells on the board
+   * @return the shared keys for boards with that many cells
+   */
+  public static ZobristKeys forCellCount(int cellCount) {
+    return TABLES.computeIfAbsent(cellCount, ZobristKeys::new);
+  }
+
+  /**
+   * Scrambles the bits of a step of the seed, the way SplitMix64 does.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Gets the key of a cell holding the given disc status.
+   * @param index the index of the cell
+   * @param status the disc status of the cell
+   * @return the key, 0 for an empty cell
+   */
+  public long getKey(int index, DiscStatus status) {
+    switch (status) {
+      case Black:
+        return this.keys[index * 2];
+      case White:
+        return this.keys[index * 2 + 1];
+      default:
+        return 0L;
+    }
+  }
+
+  /**
+   * Gets the key that is part of a hash when white is the player to move.
+   * @return the key for white's turn
+   */
+  public long getWhiteToMove() {
+    return this.whiteToMove;
+  }
+}
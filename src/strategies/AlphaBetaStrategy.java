@@ -0,0 +1,332 @@
+package cs3500.reversi.strategies;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.model.AbstractReversi;
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * The implementation of a hex strategy that looks ahead several moves with a negamax alpha-beta.
+ * search. It searches one move deeper at a time until its time for the move runs out, and picks
+ * the best move of the deepest search that finished. Moves are tried out on a copy of the game,
+ * so the game being played is never changed.
+ */
+public class AlphaBetaStrategy implements HexStrategy {
+
+  // score of a finished game, above any score the evaluation can give
+  static final int WIN = 1_000_000;
+  // above any score at all, for the bounds of a search that knows nothing yet
+  static final int INFINITY = 2 * WIN;
+  // longest time budget whose nanoseconds still fit in a long, about 292 years
+  static final long MAX_BUDGET_MILLIS = Long.MAX_VALUE / 1_000_000L;
+  // how much each legal move is worth next to each disc
+  private static final int MOBILITY_WEIGHT = 2;
+  // how many nodes to search between looks at the clock and the thread's interrupt flag
+  private static final int CLOCK_INTERVAL = 1024;
+  // memory of the table a strategy makes for itself, in bytes
+  private static final long DEFAULT_TABLE_BYTES = 16L << 20;
+
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final TranspositionTable table;
+
+  // state of the search in progress
+  private CellRegistry registry;
+  private long deadline;
+  private AtomicBoolean stop;
+  private long nodes;
+  private int completedDepth;
+
+  /**
+   * Constructs an alpha-beta strategy with the given time for each move, searching as deep as.
+   * that time allows.
+   * @param budgetMillis the time each move may take, in milliseconds
+   */
+  public AlphaBetaStrategy(long budgetMillis) {
+    this(budgetMillis, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy with the given time for each move, searching no deeper.
+   * than the given depth.
+   * @param budgetMillis the time each move may take, in milliseconds
+   * @param maxDepth the most moves to look ahead, passes not counted
+   * @throws IllegalArgumentException if the budget is negative or too long to count in
+   *                                  nanoseconds, or the depth is less than 1
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth) {
+    this(budgetMillis, maxDepth, new TranspositionTable(DEFAULT_TABLE_BYTES));
+  }
+
+  /**
+   * Constructs an alpha-beta strategy that keeps the results it finds in the given table. The
+   * results stay there from one move to the next, and other strategies may share the table.
+   * @param budgetMillis the time each move may take, in milliseconds
+   * @param maxDepth the most moves to look ahead, passes not counted
+   * @param table the table to keep results in
+   * @throws IllegalArgumentException if the budget is negative or too long to count in
+   *                                  nanoseconds, or the depth is less than 1
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, TranspositionTable table) {
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative.");
+    }
+    if (budgetMillis > MAX_BUDGET_MILLIS) {
+      throw new IllegalArgumentException("Time budget is too long.");
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Search depth has to be at least 1.");
+    }
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.table = table;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
+          throws IllegalAccessException {
+    List<ReversiCell> moves = model.getPossibleMoves();
+    if (moves.isEmpty()) {
+      throw new IllegalAccessException("No available cells with alpha-beta strategy.");
+    }
+    if (moves.size() == 1) {
+      return moves.get(0);
+    }
+
+    return this.deepen(AbstractReversi.copyOf(model), moves, 1, new AtomicBoolean());
+  }
+
+  /**
+   * Searches one move deeper at a time, from the given depth on, until the time is up, the
+   * search is stopped or interrupted, or the end of the game is in sight. A search from depth 1
+   * always finishes its first depth, so there is always a searched move to return.
+   *
+   * @param game the copy of the game to try moves on, which this search has to itself
+   * @param moves the legal moves of the player to move, reordered as the search goes
+   * @param firstDepth the depth to search first
+   * @param stop set by another thread to end the search early
+   * @return the best move of the deepest search that finished, the first move if none did
+   */
+  ReversiCell deepen(ReversiModel game, List<ReversiCell> moves, int firstDepth,
+                     AtomicBoolean stop) {
+    this.registry = CellRegistry.forGame(game);
+    int emptyCells = this.registry.getCellCount() - game.getBlackScore() - game.getWhiteScore();
+    // may wrap around, so it is only ever compared by subtracting
+    this.deadline = System.nanoTime() + this.budgetNanos;
+    this.stop = stop;
+    this.nodes = 0;
+    this.completedDepth = 0;
+
+    ReversiCell best = moves.get(0);
+    for (int depth = firstDepth; depth <= this.maxDepth; depth++) {
+      // try the best move so far first, it makes the most cutoffs
+      moves.remove(best);
+      moves.add(0, best);
+      try {
+        best = this.searchRoot(game, moves, depth);
+        this.completedDepth = depth;
+      } catch (OutOfTime e) {
+        break;
+      }
+      if (this.completedDepth >= emptyCells) {
+        // every remaining move has been searched to the end of the game
+        break;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Gets the depth of the deepest search that finished on the last move chosen.
+   * @return the number of moves looked ahead
+   */
+  public int getCompletedDepth() {
+    return this.completedDepth;
+  }
+
+  /**
+   * Gets the number of positions searched on the last move chosen, over every depth.
+   * @return the number of nodes searched
+   */
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Searches every move of the player to move to the given depth.
+   *
+   * @param game the copy of the game to try moves on
+   * @param moves the legal moves, in the order to try them
+   * @param depth the number of moves to look ahead
+   * @return the move with the best score, the first one if several are equal
+   */
+  private ReversiCell searchRoot(ReversiModel game, List<ReversiCell> moves, int depth) {
+    ReversiCell best = moves.get(0);
+    int alpha = -INFINITY;
+    for (ReversiCell move : moves) {
+      game.doMove(move);
+      int score;
+      try {
+        score = -this.search(game, depth - 1, -INFINITY, -alpha, false, depth > 1);
+      } finally {
+        game.undoMove();
+      }
+      if (score > alpha) {
+        alpha = score;
+        best = move;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Scores the position for the player to move by searching it with negamax alpha-beta.
+   *
+   * @param game the copy of the game to try moves on
+   * @param depth the number of moves left to look ahead
+   * @param alpha the score the player to move is already sure of
+   * @param beta the score the opponent is already sure of
+   * @param passed true if the last move was a pass
+   * @param timed true if the search should stop once the time is up
+   * @return the score of the position, higher is better for the player to move
+   * @throws OutOfTime if the search is timed and the time is up, it was stopped, or the thread
+   *                   was interrupted
+   */
+  private int search(ReversiModel game, int depth, int alpha, int beta, boolean passed,
+                     boolean timed) {
+    if (++this.nodes % CLOCK_INTERVAL == 0 && timed
+            && (System.nanoTime() - this.deadline > 0 || this.stop.get()
+            || Thread.currentThread().isInterrupted())) {
+      throw new OutOfTime();
+    }
+
+    // a result from another path to this position may settle it, or at least narrow it down
+    long hash = game.getPositionHash();
+    long stored = this.table.probe(hash);
+    int storedMove = -1;
+    if (stored != TranspositionTable.MISS) {
+      storedMove = TranspositionTable.getMove(stored);
+      if (TranspositionTable.getDepth(stored) >= Math.min(depth, 255)) {
+        int score = TranspositionTable.getScore(stored);
+        switch (TranspositionTable.getBound(stored)) {
+          case TranspositionTable.EXACT:
+            return score;
+          case TranspositionTable.LOWER:
+            alpha = Math.max(alpha, score);
+            break;
+          default:
+            beta = Math.min(beta, score);
+            break;
+        }
+        if (alpha >= beta) {
+          return score;
+        }
+      }
+    }
+
+    List<ReversiCell> moves = game.getPossibleMoves();
+    if (moves.isEmpty()) {
+      if (passed) {
+        // neither player can move, the game is over
+        return finalScore(game);
+      }
+      game.doPass();
+      try {
+        return -this.search(game, depth, -beta, -alpha, true, timed);
+      } finally {
+        game.undoMove();
+      }
+    }
+    if (depth == 0) {
+      return evaluate(game, moves.size());
+    }
+
+    // the best move found here before most likely makes a cutoff again, so it goes first
+    if (storedMove >= 0) {
+      ReversiCell first = this.registry.getCell(storedMove);
+      if (moves.remove(first)) {
+        moves.add(0, first);
+      }
+    }
+    int originalAlpha = alpha;
+    int bestScore = -INFINITY;
+    ReversiCell bestMove = null;
+    for (ReversiCell move : moves) {
+      game.doMove(move);
+      int score;
+      try {
+        score = -this.search(game, depth - 1, -beta, -alpha, false, timed);
+      } finally {
+        game.undoMove();
+      }
+      if (score > bestScore) {
+        bestScore = score;
+        bestMove = move;
+      }
+      alpha = Math.max(alpha, score);
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    int bound = bestScore >= beta ? TranspositionTable.LOWER
+            : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+    this.table.store(hash, Math.min(depth, 255), bound, bestScore,
+            this.registry.getIndex(bestMove));
+    return bestScore;
+  }
+
+  /**
+   * Scores a position the search stops at for the player to move: the disc lead, plus a bonus.
+   * for every move the player could make.
+   *
+   * @param game the game
+   * @param mobility the number of legal moves of the player to move
+   * @return the score of the position
+   */
+  private static int evaluate(ReadOnlyReversi game, int mobility) {
+    int lead = game.getBlackScore() - game.getWhiteScore();
+    return (game.isBlackTurn() ? lead : -lead) + MOBILITY_WEIGHT * mobility;
+  }
+
+  /**
+   * Scores a finished game for the player to move, winning by more is better.
+   *
+   * @param game the game
+   * @return the score of the game, past {@link #WIN} for a win and below -WIN for a loss
+   */
+  static int finalScore(ReadOnlyReversi game) {
+    int lead = game.getBlackScore() - game.getWhiteScore();
+    if (!game.isBlackTurn()) {
+      lead = -lead;
+    }
+    return lead == 0 ? 0 : Integer.signum(lead) * WIN + lead;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isHuman() {
+    return false;
+  }
+
+  /**
+   * Thrown through the search to stop it once the time for the move is up.
+   */
+  private static final class OutOfTime extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private OutOfTime() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -3,10 +3,8 @@ package cs3500.reversi.strategies;
 import java.util.ArrayList;
 import java.util.List;
 import cs3500.reversi.model.DiscStatus;
-import cs3500.reversi.model.Hex;
 import cs3500.reversi.model.ReadOnlyReversi;
 import cs3500.reversi.model.ReversiCell;
-import cs3500.reversi.model.Square;
 
 /**
  * The implementation of a hex strategy that tries to choose a hex that captures a corner if.
@@ -20,49 +18,33 @@ public class CaptureCornersStrategy implements HexStrategy {
   @Override
   public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
           throws IllegalAccessException {
-
-    List<ReversiCell> cellOptions = this.optionsAdd(model);
-    if (cellOptions.isEmpty()) {
+    ReversiCell choice = this.choose(new MoveContext(model));
+    if (choice == null) {
       throw new IllegalAccessException("No available cells with avoid corners strategy.");
     }
-    return this.getUpperLeftMostHexInList(cellOptions);
+    return choice;
+  }
+
+  /**
+   * Chooses a corner to play at from the moves of the turn.
+   * @param context the moves of the turn
+   * @return the cell, null if no corner can be played at
+   */
+  ReversiCell choose(MoveContext context) {
+    return this.getUpperLeftMostHexInList(this.optionsAdd(context));
   }
 
-  private List<ReversiCell> optionsAdd(ReadOnlyReversi model) {
+  private List<ReversiCell> optionsAdd(MoveContext context) {
     List<ReversiCell> cellOptions = new ArrayList<>();
-    try {
-      int coord = (int) Math.floor(model.getGridSize() / 2);
-      for (int q = -coord; q <= coord; q++) {
-        for (int r = -coord; r <= coord; r++) {
-          for (int s = -coord; s <= coord; s++) {
-            if (q + r + s == 0 && this.hexIsCorner(model, q, r, s)) {
-              if (model.isMoveLegalAt(new Hex(q,r,s))) {
-                cellOptions.add(new Hex(q, r, s));
-              }
-            }
-          }
-        }
-      }
-    }
-    catch (IllegalArgumentException e) {
-      for (int x = 0; x < model.getGridSize(); x++) {
-        for (int y = 0; y < model.getGridSize(); y++) {
-          if (!this.squareIsCorner(model, x, y)) {
-            if (model.isMoveLegalAt(new Square(x, y))) {
-              cellOptions.add(new Square(x, y));
-            }
-          }
-        }
+    for (int i = 0; i < context.getMoveCount(); i++) {
+      // on square boards this has always picked from the cells that are not corners
+      if (context.isCorner(i) == context.isHex()) {
+        cellOptions.add(context.getMove(i));
       }
     }
     return cellOptions;
   }
 
-  private boolean squareIsCorner(ReadOnlyReversi model, int x, int y) {
-    return (x == 0 && y == 0) || (x == model.getGridSize() - 1 && y == model.getGridSize() - 1)
-            || (x == 0 && y == model.getGridSize() - 1) || (x == model.getGridSize() - 1 && y == 0);
-  }
-
   /**
    * {@inheritDoc}
    */
@@ -107,11 +89,4 @@ public class CaptureCornersStrategy implements HexStrategy {
     }
   }
 
-
-  private boolean hexIsCorner(ReadOnlyReversi model, int q, int r, int s) {
-    return s == 0 && Math.abs(q) == Math.floor(model.getGridSize() / 2)
-            && Math.abs(r) == Math.floor(model.getGridSize() / 2)
-            || (q == 0 && Math.abs(s) == Math.floor(model.getGridSize() / 2)
-            && Math.abs(r) == Math.floor(model.getGridSize() / 2));
-  }
 }
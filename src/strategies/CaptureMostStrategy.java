@@ -1,8 +1,6 @@
 package cs3500.reversi.strategies;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.ReadOnlyReversi;
@@ -20,69 +18,63 @@ public class CaptureMostStrategy implements HexStrategy {
   @Override
   public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
           throws IllegalAccessException {
-    Map<Integer, ReversiCell> movesAndScores = new HashMap<>();
-    int maxScore = 0;
-
-    // every hex
-    // 6 (at most) adjacent opposite
-    for (ReversiCell h : model.getPossibleMoves()) {
-
-      List<ReversiCell> loAdjacentOpposite = model.getAdjacentOpposite(h);
+    ReversiCell choice = this.choose(new MoveContext(model));
+    if (choice == null) {
+      throw new IllegalAccessException("No available cells with capture most strategy.");
+    }
+    return choice;
+  }
 
-      int currHexScore = 0;
-      // FOR ONE HEX
-      for (int i = 0; i < loAdjacentOpposite.size() - 1; i++) {
-        // for every existing adjacent opponent hex
-        if (loAdjacentOpposite.get(i) != null) {
-          ReversiCell hex = loAdjacentOpposite.get(i);
-          if (i == 0) {
-            currHexScore += model.numOppositeHexes(hex, 1, -1, 0) + 1;
-          } else if (i == 1) {
-            currHexScore += model.numOppositeHexes(hex, 1, 0, -1) + 1;
-          } else if (i == 2) {
-            currHexScore += model.numOppositeHexes(hex, 0, 1, -1) + 1;
-          } else if (i == 3) {
-            currHexScore += model.numOppositeHexes(hex, -1, 1, 0) + 1;
-          } else if (i == 4) {
-            currHexScore += model.numOppositeHexes(hex, -1, 0, 1) + 1;
-          } else if (i == 5) {
-            currHexScore += model.numOppositeHexes(hex, 0, -1, 1) + 1;
-          }
-        }
+  /**
+   * Chooses the move that captures the most from the moves of the turn, the last one in the
+   * order of the moves on a tie.
+   * @param context the moves of the turn
+   * @return the cell, null if there are no moves
+   */
+  ReversiCell choose(MoveContext context) {
+    ReversiCell best = null;
+    int maxScore = 0;
+    for (int i = 0; i < context.getMoveCount(); i++) {
+      ReversiCell h = context.getMove(i);
+      int currHexScore = this.score(context.getModel(), h);
+      if (best == null || currHexScore >= maxScore) {
+        best = h;
+        maxScore = currHexScore;
       }
+    }
+    return best;
+  }
 
-      if (maxScore == currHexScore) {
-
-        movesAndScores.put(currHexScore, h);
-
-        int maxScoreQ;
-        int maxScoreR;
-        try {
-          maxScoreQ = movesAndScores.get(maxScore).getQ();
-          maxScoreR = movesAndScores.get(maxScore).getR();
-          if ((h.getQ() < maxScoreQ && h.getR() <= maxScoreR)
-                  || (h.getQ() == maxScoreQ && h.getR() < maxScoreR)) {
-            movesAndScores.replace(maxScore, h);
-          }
-
-        } catch (IllegalArgumentException e) {
-          maxScoreQ = movesAndScores.get(maxScore).getX();
-          maxScoreR = movesAndScores.get(maxScore).getY();
+  /**
+   * Scores a move by the lines of opponent cells next to it. This is not the number of discs the
+   * move flips: every opponent cell next to the move counts, whether its line is closed off or
+   * not, and the last direction is never looked at.
+   */
+  private int score(ReadOnlyReversi model, ReversiCell h) {
+    List<ReversiCell> loAdjacentOpposite = model.getAdjacentOpposite(h);
 
-          if ((h.getX() < maxScoreQ && h.getY() <= maxScoreR)
-                  || (h.getX() == maxScoreQ && h.getY() < maxScoreR)) {
-            movesAndScores.replace(maxScore, h);
-          }
+    int currHexScore = 0;
+    // FOR ONE HEX
+    for (int i = 0; i < loAdjacentOpposite.size() - 1; i++) {
+      // for every existing adjacent opponent hex
+      if (loAdjacentOpposite.get(i) != null) {
+        ReversiCell hex = loAdjacentOpposite.get(i);
+        if (i == 0) {
+          currHexScore += model.numOppositeHexes(hex, 1, -1, 0) + 1;
+        } else if (i == 1) {
+          currHexScore += model.numOppositeHexes(hex, 1, 0, -1) + 1;
+        } else if (i == 2) {
+          currHexScore += model.numOppositeHexes(hex, 0, 1, -1) + 1;
+        } else if (i == 3) {
+          currHexScore += model.numOppositeHexes(hex, -1, 1, 0) + 1;
+        } else if (i == 4) {
+          currHexScore += model.numOppositeHexes(hex, -1, 0, 1) + 1;
+        } else if (i == 5) {
+          currHexScore += model.numOppositeHexes(hex, 0, -1, 1) + 1;
         }
-      } else {
-        movesAndScores.put(currHexScore, h);
-        maxScore = Math.max(maxScore, currHexScore);
       }
     }
-    if (movesAndScores.isEmpty()) {
-      throw new IllegalAccessException("No available cells with capture most strategy.");
-    }
-    return movesAndScores.get(maxScore);
+    return currHexScore;
   }
 
   /**
@@ -10,11 +10,12 @@ import cs3500.reversi.model.ReversiCell;
  */
 public class CombinedStrategy implements HexStrategy {
 
-  private final HexStrategy cornersStrategy = new CaptureCornersStrategy();
+  private final CaptureCornersStrategy cornersStrategy = new CaptureCornersStrategy();
 
-  private final HexStrategy avoidNextToCornerStrategy = new AvoidNextToCornerStrategy();
+  private final AvoidNextToCornerStrategy avoidNextToCornerStrategy =
+          new AvoidNextToCornerStrategy();
 
-  private final HexStrategy captureMostStrategy = new CaptureMostStrategy();
+  private final CaptureMostStrategy captureMostStrategy = new CaptureMostStrategy();
 
   /**
    * {@inheritDoc}
@@ -22,16 +23,19 @@ public class CombinedStrategy implements HexStrategy {
   @Override
   public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
           throws IllegalAccessException {
-
-    try {
-      return cornersStrategy.chooseHex(model, playerType);
-    } catch (IllegalAccessException e) {
-      try {
-        return avoidNextToCornerStrategy.chooseHex(model, playerType);
-      } catch (IllegalAccessException r) {
-        return captureMostStrategy.chooseHex(model, playerType);
-      }
+    // the legal moves are found once, and every strategy in turn picks from them
+    MoveContext context = new MoveContext(model);
+    ReversiCell choice = cornersStrategy.choose(context);
+    if (choice == null) {
+      choice = avoidNextToCornerStrategy.choose(context);
+    }
+    if (choice == null) {
+      choice = captureMostStrategy.choose(context);
+    }
+    if (choice == null) {
+      throw new IllegalAccessException("No available cells with capture most strategy.");
     }
+    return choice;
   }
 
   /**
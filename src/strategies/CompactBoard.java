@@ -0,0 +1,316 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.RayTable;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+
+/**
+ * A bare board for playing out many games quickly: a byte per cell, the player to move and the
+ * pass count, with moves found along the shared {@link RayTable} of the board. It has none of a
+ * game's checks, observers or cell objects, and copying one into another makes no garbage, so
+ * search threads can each keep their own boards and reuse them for every game they play out.
+ * Works for hex and square boards alike, cells are numbered like the {@link CellRegistry}.
+ */
+public final class CompactBoard {
+
+  private static final byte EMPTY = 0;
+  private static final byte BLACK = 1;
+  private static final byte WHITE = 2;
+
+  private final CellRegistry registry;
+  private final RayTable rays;
+  private final byte[] cells;
+  private boolean blackToMove;
+  private int passes;
+  private int blackCount;
+  private int whiteCount;
+
+  /**
+   * Makes a board in the same position as the given game, with the same player to move.
+   * @param game the game to copy the position of
+   */
+  public CompactBoard(ReadOnlyReversi game) {
+    this.registry = CellRegistry.forGame(game);
+    this.rays = RayTable.forRegistry(this.registry);
+    this.cells = new byte[this.registry.getCellCount()];
+    for (int i = 0; i < this.cells.length; i++) {
+      DiscStatus status = game.getStatus(this.registry.getCell(i));
+      if (status == DiscStatus.Black) {
+        this.cells[i] = BLACK;
+        this.blackCount++;
+      } else if (status == DiscStatus.White) {
+        this.cells[i] = WHITE;
+        this.whiteCount++;
+      }
+    }
+    this.blackToMove = game.isBlackTurn();
+    this.passes = game.getConsecutivePasses();
+  }
+
+  /**
+   * Makes a copy of the given board.
+   * @param other the board to copy
+   */
+  public CompactBoard(CompactBoard other) {
+    this.registry = other.registry;
+    this.rays = other.rays;
+    this.cells = new byte[other.cells.length];
+    this.copyFrom(other);
+  }
+
+  /**
+   * Puts this board in the same position as another board of the same shape and size.
+   * @param other the board to copy
+   * @throws IllegalArgumentException if the other board is a different shape or size
+   */
+  public void copyFrom(CompactBoard other) {
+    if (other.registry != this.registry) {
+      throw new IllegalArgumentException("Boards are not the same shape and size.");
+    }
+    System.arraycopy(other.cells, 0, this.cells, 0, this.cells.length);
+    this.blackToMove = other.blackToMove;
+    this.passes = other.passes;
+    this.blackCount = other.blackCount;
+    this.whiteCount = other.whiteCount;
+  }
+
+  /**
+   * Finds every legal move of the player to move.
+   * @param moves the array to write the cell indices of the moves into, from the start, in
+   *              index order, at least as long as the number of cells
+   * @return the number of legal moves written
+   */
+  public int getMoves(int[] moves) {
+    int count = 0;
+    for (int i = 0; i < this.cells.length; i++) {
+      if (this.isLegal(i)) {
+        moves[count++] = i;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Determines if the cell has no disc on it.
+   * @param index the index of the cell
+   * @return true if the cell is empty
+   */
+  public boolean isEmpty(int index) {
+    return this.cells[index] == EMPTY;
+  }
+
+  /**
+   * Determines if the player to move can place a disc on the cell.
+   * @param index the index of the cell
+   * @return true if the cell is empty and the disc would flip at least one opponent disc
+   */
+  public boolean isLegal(int index) {
+    if (this.cells[index] != EMPTY) {
+      return false;
+    }
+    byte own = this.blackToMove ? BLACK : WHITE;
+    for (int d = 0; d < this.rays.getDirectionCount(); d++) {
+      if (this.countFlips(this.rays.getRay(index, d), own) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Places a disc for the player to move and flips every opponent disc it surrounds, then gives
+   * the turn to the opponent. The move is not checked, it has to be legal.
+   * @param index the index of the empty cell to place the disc on
+   * @return the number of opponent discs flipped
+   */
+  public int play(int index) {
+    byte own = this.blackToMove ? BLACK : WHITE;
+    int flipped = 0;
+    for (int d = 0; d < this.rays.getDirectionCount(); d++) {
+      int[] ray = this.rays.getRay(index, d);
+      int count = this.countFlips(ray, own);
+      for (int i = 0; i < count; i++) {
+        this.cells[ray[i]] = own;
+      }
+      flipped += count;
+    }
+    this.cells[index] = own;
+    this.changeCounts(own, 1, flipped);
+    this.blackToMove = !this.blackToMove;
+    this.passes = 0;
+    return flipped;
+  }
+
+  /**
+   * Places a disc like {@link #play(int)}, and writes down every disc it flipped so the move can
+   * be taken back with {@link #undo(int, int[], int, int)}.
+   * @param index the index of the empty cell to place the disc on
+   * @param flipped the array to write the indices of the flipped discs into, from the start
+   * @return the number of opponent discs flipped
+   */
+  public int play(int index, int[] flipped) {
+    byte own = this.blackToMove ? BLACK : WHITE;
+    int count = 0;
+    for (int d = 0; d < this.rays.getDirectionCount(); d++) {
+      int[] ray = this.rays.getRay(index, d);
+      int rayCount = this.countFlips(ray, own);
+      for (int i = 0; i < rayCount; i++) {
+        this.cells[ray[i]] = own;
+        flipped[count++] = ray[i];
+      }
+    }
+    this.cells[index] = own;
+    this.changeCounts(own, 1, count);
+    this.blackToMove = !this.blackToMove;
+    this.passes = 0;
+    return count;
+  }
+
+  /**
+   * Takes back a move made with {@link #play(int, int[])}, the last one made on this board.
+   * @param index the index of the cell the disc was placed on
+   * @param flipped the indices of the discs the move flipped
+   * @param count the number of discs the move flipped
+   * @param passes the pass count before the move, from {@link #getPasses()}
+   */
+  public void undo(int index, int[] flipped, int count, int passes) {
+    byte own = this.cells[index];
+    byte opponent = own == BLACK ? WHITE : BLACK;
+    for (int i = 0; i < count; i++) {
+      this.cells[flipped[i]] = opponent;
+    }
+    this.cells[index] = EMPTY;
+    this.changeCounts(own, -1, -count);
+    this.blackToMove = own == BLACK;
+    this.passes = passes;
+  }
+
+  /**
+   * Updates the disc counts for discs a player placed and flipped, negative when taken back.
+   */
+  private void changeCounts(byte own, int placed, int flipped) {
+    if (own == BLACK) {
+      this.blackCount += flipped + placed;
+      this.whiteCount -= flipped;
+    } else {
+      this.whiteCount += flipped + placed;
+      this.blackCount -= flipped;
+    }
+  }
+
+  /**
+   * Passes the turn of the player to move.
+   */
+  public void pass() {
+    this.blackToMove = !this.blackToMove;
+    this.passes++;
+  }
+
+  /**
+   * Takes back a pass, the last move made on this board.
+   */
+  public void undoPass() {
+    this.blackToMove = !this.blackToMove;
+    this.passes--;
+  }
+
+  /**
+   * Counts the opponent discs along a ray that are closed off by one of the player's discs.
+   */
+  private int countFlips(int[] ray, byte own) {
+    for (int i = 0; i < ray.length; i++) {
+      byte cell = this.cells[ray[i]];
+      if (cell == EMPTY) {
+        return 0;
+      } else if (cell == own) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Is the game over, with both players having passed in a row?.
+   * @return true if the game is over
+   */
+  public boolean isGameOver() {
+    return this.passes >= 2;
+  }
+
+  /**
+   * Gets the number of passes in a row just before this position.
+   * @return the number of consecutive passes
+   */
+  public int getPasses() {
+    return this.passes;
+  }
+
+  /**
+   * Is it black's turn?.
+   * @return true if black is the player to move, false for white
+   */
+  public boolean isBlackToMove() {
+    return this.blackToMove;
+  }
+
+  /**
+   * Gets the number of black discs on the board.
+   * @return the black score
+   */
+  public int getBlackCount() {
+    return this.blackCount;
+  }
+
+  /**
+   * Gets the number of white discs on the board.
+   * @return the white score
+   */
+  public int getWhiteCount() {
+    return this.whiteCount;
+  }
+
+  /**
+   * Is this a hex board?.
+   * @return true if the cells are hexes, false if they are squares
+   */
+  public boolean isHex() {
+    return this.registry.isHex();
+  }
+
+  /**
+   * Gets the number of cells on the board.
+   * @return the number of cells
+   */
+  public int getCellCount() {
+    return this.cells.length;
+  }
+
+  /**
+   * Gets the number of cells on the board with no disc.
+   * @return the number of empty cells
+   */
+  public int getEmptyCount() {
+    return this.cells.length - this.blackCount - this.whiteCount;
+  }
+
+  /**
+   * Gets the cell of the game at the given index.
+   * @param index the index of the cell
+   * @return the canonical cell
+   */
+  public ReversiCell getCell(int index) {
+    return this.registry.getCell(index);
+  }
+
+  /**
+   * Gets the index of the given cell on this board.
+   * @param cell the cell with its coordinates
+   * @return the index of the cell, -1 if it is not on the board
+   * @throws IllegalArgumentException if the cell is not the shape of this board's cells
+   */
+  public int getIndex(ReversiCell cell) {
+    return this.registry.getIndex(cell);
+  }
+}
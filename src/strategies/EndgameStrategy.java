@@ -0,0 +1,321 @@
+package cs3500.reversi.strategies;
+
+import java.util.List;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+
+/**
+ * The implementation of a hex strategy that plays the end of the game perfectly. Once few enough
+ * cells are left empty, it searches every way the game can still go and picks the move with the
+ * best final disc lead. Before that, it plays like the strategy it wraps.
+ *
+ * <p>The search runs on a {@link CompactBoard} and makes no objects while it searches. Moves that
+ * leave the opponent the fewest replies are tried first, since they cut the search down the
+ * most. Moves in a region of the board with an odd number of empty cells are tried before the
+ * others, since playing last in a region is usually worth more. Regions are the quarters of a
+ * square board and the six wedges around the center of a hex board.
+ */
+public class EndgameStrategy implements HexStrategy {
+
+  // most empty cells solved when no other number is given
+  private static final int DEFAULT_EMPTIES = 12;
+  // with fewer empty cells than this, ordering moves by the opponent's replies costs more
+  // than it saves
+  private static final int FASTEST_FIRST_EMPTIES = 7;
+  // above any final disc lead
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+  // how many nodes to solve between looks at the thread's interrupt flag
+  private static final int INTERRUPT_INTERVAL = 1024;
+
+  private final HexStrategy fallback;
+  private final int maxEmpties;
+
+  // state of the solve in progress, made once per move
+  private CompactBoard board;
+  private int[] empties;
+  private int[] region;
+  private int[] regionEmpties;
+  // per ply of the search: the moves, their ordering keys, and the discs a move flipped
+  private int[][] moves;
+  private int[][] keys;
+  private int[][] flips;
+
+  // results of the last move chosen
+  private boolean solved;
+  private int solvedLead;
+  private long nodes;
+
+  /**
+   * Constructs an endgame strategy that solves the last 12 empty cells.
+   * @param fallback the strategy to play until then
+   */
+  public EndgameStrategy(HexStrategy fallback) {
+    this(fallback, DEFAULT_EMPTIES);
+  }
+
+  /**
+   * Constructs an endgame strategy that solves the game once at most the given number of
+   * cells are empty.
+   * @param fallback the strategy to play until then
+   * @param maxEmpties the most empty cells to solve the game with
+   * @throws IllegalArgumentException if the strategy is null or the number is negative
+   */
+  public EndgameStrategy(HexStrategy fallback, int maxEmpties) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Strategy to fall back on cannot be null.");
+    }
+    if (maxEmpties < 0) {
+      throw new IllegalArgumentException("Number of empty cells cannot be negative.");
+    }
+    this.fallback = fallback;
+    this.maxEmpties = maxEmpties;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
+          throws IllegalAccessException {
+    List<ReversiCell> legal = model.getPossibleMoves();
+    if (legal.isEmpty()) {
+      throw new IllegalAccessException("No available cells with endgame strategy.");
+    }
+    CompactBoard start = new CompactBoard(model);
+    if (start.getEmptyCount() > this.maxEmpties) {
+      this.solved = false;
+      return this.fallback.chooseHex(model, playerType);
+    }
+
+    this.prepare(start, model.getGridSize());
+    int count = this.findMoves(0);
+    int best = this.moves[0][0];
+    int bestScore = -INFINITY;
+    try {
+      for (int i = 0; i < count; i++) {
+        int move = this.moves[0][i];
+        int score = -this.playAndSolve(move, 0, -INFINITY, -bestScore);
+        if (score > bestScore) {
+          bestScore = score;
+          best = move;
+        }
+      }
+    } catch (Interrupted e) {
+      // nobody is waiting for the move any more, the best one so far will do
+      this.solved = false;
+      return this.board.getCell(best);
+    }
+    this.solved = true;
+    this.solvedLead = bestScore;
+    return this.board.getCell(best);
+  }
+
+  /**
+   * Was the last move chosen by solving the game?.
+   * @return true if the game was solved, false if the wrapped strategy chose the move
+   */
+  public boolean isSolved() {
+    return this.solved;
+  }
+
+  /**
+   * Gets the final disc lead of the player who made the last move chosen, if both players play
+   * perfectly from then on. Only meaningful if the game was solved.
+   * @return the player's discs minus the opponent's at the end of the game
+   */
+  public int getSolvedLead() {
+    return this.solvedLead;
+  }
+
+  /**
+   * Gets the number of positions searched to solve the last move chosen.
+   * @return the number of nodes searched
+   */
+  public long getNodes() {
+    return this.solved ? this.nodes : 0;
+  }
+
+  /**
+   * Sets up the board, regions and buffers for solving the given position.
+   */
+  private void prepare(CompactBoard start, int gridSize) {
+    this.board = start;
+    this.nodes = 0;
+    int cells = start.getCellCount();
+    int emptyCount = start.getEmptyCount();
+
+    this.region = new int[cells];
+    this.regionEmpties = new int[6];
+    this.empties = new int[emptyCount];
+    int found = 0;
+    for (int i = 0; i < cells; i++) {
+      this.region[i] = start.isHex() ? hexRegion(start.getCell(i))
+              : squareRegion(start.getCell(i), gridSize);
+      if (start.isEmpty(i)) {
+        this.empties[found++] = i;
+        this.regionEmpties[this.region[i]]++;
+      }
+    }
+
+    // every move fills a cell, and there is at most one pass between moves
+    int plies = 2 * emptyCount + 2;
+    this.moves = new int[plies][emptyCount];
+    this.keys = new int[plies][emptyCount];
+    this.flips = new int[plies][cells];
+  }
+
+  /**
+   * Plays a move, solves the position after it, and takes the move back.
+   *
+   * @param move the index of the cell to play
+   * @param ply how many moves deep the position before the move is
+   * @return the final disc lead of the opponent of the player who made the move
+   */
+  private int playAndSolve(int move, int ply, int alpha, int beta) {
+    int passes = this.board.getPasses();
+    int count = this.board.play(move, this.flips[ply]);
+    this.regionEmpties[this.region[move]]--;
+    int score = this.solve(ply + 1, alpha, beta);
+    this.regionEmpties[this.region[move]]++;
+    this.board.undo(move, this.flips[ply], count, passes);
+    return score;
+  }
+
+  /**
+   * Finds the final disc lead of the player to move with negamax alpha-beta.
+   *
+   * @param ply how many moves deep the position is
+   * @param alpha the lead the player to move is already sure of
+   * @param beta the lead the opponent is already sure to hold the player to
+   * @return the player's discs minus the opponent's at the end of the game
+   * @throws Interrupted if the thread was interrupted
+   */
+  private int solve(int ply, int alpha, int beta) {
+    if (++this.nodes % INTERRUPT_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+      throw new Interrupted();
+    }
+    int count = this.findMoves(ply);
+    if (count == 0) {
+      if (this.board.getPasses() > 0 || this.board.getEmptyCount() == 0) {
+        // the opponent could not move either, the game is over
+        int lead = this.board.getBlackCount() - this.board.getWhiteCount();
+        return this.board.isBlackToMove() ? lead : -lead;
+      }
+      this.board.pass();
+      int score = -this.solve(ply + 1, -beta, -alpha);
+      this.board.undoPass();
+      return score;
+    }
+
+    for (int i = 0; i < count; i++) {
+      int score = -this.playAndSolve(this.moves[ply][i], ply, -beta, -alpha);
+      if (score > alpha) {
+        alpha = score;
+        if (alpha >= beta) {
+          break;
+        }
+      }
+    }
+    return alpha;
+  }
+
+  /**
+   * Finds the legal moves of the player to move and puts them in the order to try them.
+   *
+   * @param ply how many moves deep the position is, to pick the buffers to use
+   * @return the number of moves, written to the start of that ply's move buffer
+   */
+  private int findMoves(int ply) {
+    int[] found = this.moves[ply];
+    int[] key = this.keys[ply];
+    int count = 0;
+    boolean fastestFirst = this.board.getEmptyCount() >= FASTEST_FIRST_EMPTIES;
+    for (int cell : this.empties) {
+      if (this.board.isLegal(cell)) {
+        int parity = this.regionEmpties[this.region[cell]] % 2 == 1 ? 0 : 1;
+        int replies = 0;
+        if (fastestFirst) {
+          int passes = this.board.getPasses();
+          int flipped = this.board.play(cell, this.flips[ply]);
+          replies = this.countMoves();
+          this.board.undo(cell, this.flips[ply], flipped, passes);
+        }
+        found[count] = cell;
+        key[count] = replies * 2 + parity;
+        count++;
+      }
+    }
+
+    // insertion sort by key, moves with equal keys keep their index order
+    for (int i = 1; i < count; i++) {
+      int cell = found[i];
+      int cellKey = key[i];
+      int j = i - 1;
+      while (j >= 0 && key[j] > cellKey) {
+        found[j + 1] = found[j];
+        key[j + 1] = key[j];
+        j--;
+      }
+      found[j + 1] = cell;
+      key[j + 1] = cellKey;
+    }
+    return count;
+  }
+
+  /**
+   * Counts the legal moves of the player to move.
+   */
+  private int countMoves() {
+    int count = 0;
+    for (int cell : this.empties) {
+      if (this.board.isLegal(cell)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the quarter of a square board the square is in, 0 to 3.
+   */
+  private static int squareRegion(ReversiCell square, int gridSize) {
+    int half = gridSize / 2;
+    return (square.getX() < half ? 0 : 2) + (square.getY() < half ? 0 : 1);
+  }
+
+  /**
+   * Gets the wedge around the center of a hex board the hex is in, 0 to 5, by which way from
+   * the center the hex is farthest.
+   */
+  private static int hexRegion(ReversiCell hex) {
+    int[] reach = {hex.getQ(), -hex.getS(), hex.getR(), -hex.getQ(), hex.getS(), -hex.getR()};
+    int wedge = 0;
+    for (int i = 1; i < reach.length; i++) {
+      if (reach[i] > reach[wedge]) {
+        wedge = i;
+      }
+    }
+    return wedge;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isHuman() {
+    return false;
+  }
+
+  /**
+   * Thrown through the solve to stop it once the thread is interrupted.
+   */
+  private static final class Interrupted extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private Interrupted() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package cs3500.reversi.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.model.AbstractReversi;
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * The implementation of a hex strategy that runs the {@link AlphaBetaStrategy} search on several
+ * threads at once, the lazy SMP way. Helper threads search the same position as the main search,
+ * every other one a move deeper, and all of them keep their results in one shared
+ * {@link TranspositionTable}. The helpers fill the table with results the main search would
+ * otherwise have to find itself, so it gets deeper in the same time. The move picked is the main
+ * search's, and the helpers are stopped as soon as it is done. The helpers run on threads kept
+ * from one move to the next.
+ */
+public class LazySmpStrategy implements HexStrategy {
+
+  // memory of the table a strategy makes for itself, in bytes
+  private static final long DEFAULT_TABLE_BYTES = 64L << 20;
+
+  private final long budgetMillis;
+  private final int threads;
+  private final int maxDepth;
+  private final TranspositionTable table;
+
+  // results of the last search
+  private int completedDepth;
+  private long nodes;
+
+  /**
+   * Constructs a lazy SMP search using every core of the machine.
+   * @param budgetMillis the time each move may take, in milliseconds
+   */
+  public LazySmpStrategy(long budgetMillis) {
+    this(budgetMillis, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a lazy SMP search with the given number of threads, the main one included.
+   * @param budgetMillis the time each move may take, in milliseconds
+   * @param threads the number of threads searching at the same time
+   * @throws IllegalArgumentException if the budget is negative or too long to count in
+   *                                  nanoseconds, or there are no threads
+   */
+  public LazySmpStrategy(long budgetMillis, int threads) {
+    this(budgetMillis, threads, Integer.MAX_VALUE, new TranspositionTable(DEFAULT_TABLE_BYTES));
+  }
+
+  /**
+   * Constructs a lazy SMP search that shares the given table between its threads.
+   * @param budgetMillis the time each move may take, in milliseconds
+   * @param threads the number of threads searching at the same time
+   * @param maxDepth the most moves to look ahead, passes not counted
+   * @param table the table all the threads keep results in
+   * @throws IllegalArgumentException if the budget is negative or too long to count in
+   *                                  nanoseconds, there are no threads, or the depth is less
+   *                                  than 1
+   */
+  public LazySmpStrategy(long budgetMillis, int threads, int maxDepth,
+                         TranspositionTable table) {
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative.");
+    }
+    if (budgetMillis > AlphaBetaStrategy.MAX_BUDGET_MILLIS) {
+      throw new IllegalArgumentException("Time budget is too long.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Search needs at least 1 thread.");
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Search depth has to be at least 1.");
+    }
+    this.budgetMillis = budgetMillis;
+    this.threads = threads;
+    this.maxDepth = maxDepth;
+    this.table = table;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
+          throws IllegalAccessException {
+    List<ReversiCell> moves = model.getPossibleMoves();
+    if (moves.isEmpty()) {
+      throw new IllegalAccessException("No available cells with lazy SMP strategy.");
+    }
+    if (moves.size() == 1 || this.threads == 1) {
+      AlphaBetaStrategy search = new AlphaBetaStrategy(this.budgetMillis, this.maxDepth,
+              this.table);
+      ReversiCell best = search.chooseHex(model, playerType);
+      this.completedDepth = search.getCompletedDepth();
+      this.nodes = search.getNodes();
+      return best;
+    }
+
+    AtomicBoolean stop = new AtomicBoolean();
+    List<AlphaBetaStrategy> helpers = new ArrayList<>();
+    List<Future<ReversiCell>> results = new ArrayList<>();
+    AlphaBetaStrategy main = new AlphaBetaStrategy(this.budgetMillis, this.maxDepth, this.table);
+    try {
+      for (int i = 1; i < this.threads; i++) {
+        AlphaBetaStrategy helper = new AlphaBetaStrategy(this.budgetMillis, this.maxDepth,
+                this.table);
+        // every search gets its own copy of the game, made here since the game is not
+        // safe to read from several threads
+        ReversiModel game = AbstractReversi.copyOf(model);
+        List<ReversiCell> helperMoves = new ArrayList<>(moves);
+        // staggered depths, so the helpers are not all finishing the same depth at once
+        int firstDepth = 1 + i % 2;
+        helpers.add(helper);
+        results.add(SearchThreads.get().submit(
+                () -> helper.deepen(game, helperMoves, firstDepth, stop)));
+      }
+      ReversiCell best = main.deepen(AbstractReversi.copyOf(model), moves, 1, stop);
+      stop.set(true);
+      long total = main.getNodes();
+      for (int i = 0; i < results.size(); i++) {
+        results.get(i).get();
+        total += helpers.get(i).getNodes();
+      }
+      this.completedDepth = main.getCompletedDepth();
+      this.nodes = total;
+      return best;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Search was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed.", e.getCause());
+    } finally {
+      stop.set(true);
+      for (Future<ReversiCell> result : results) {
+        result.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Gets the depth of the deepest search the main thread finished on the last move chosen.
+   * @return the number of moves looked ahead
+   */
+  public int getCompletedDepth() {
+    return this.completedDepth;
+  }
+
+  /**
+   * Gets the number of positions searched on the last move chosen, by all the threads together.
+   * @return the number of nodes searched
+   */
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isHuman() {
+    return false;
+  }
+}
@@ -0,0 +1,272 @@
+package cs3500.reversi.strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+
+/**
+ * The implementation of a hex strategy that picks moves with a Monte Carlo tree search: it plays
+ * out many random games from the current position and grows a tree towards the moves that win
+ * the most of them. The search is root-parallel, every worker thread grows its own tree on its
+ * own {@link CompactBoard}s until the time for the move is up, and the move the workers visited
+ * the most in total is picked. The workers run on threads kept from one move to the next.
+ * Works on hex and square games alike.
+ */
+public class MctsStrategy implements HexStrategy {
+
+  // how much the search favors moves it has tried less, the usual square root of 2
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private final long budgetNanos;
+  private final int threads;
+
+  // results of the last search
+  private long playouts;
+  private long elapsedNanos;
+
+  /**
+   * Constructs a Monte Carlo tree search strategy using every core of the machine.
+   * @param budgetMillis the time each move may take, in milliseconds
+   */
+  public MctsStrategy(long budgetMillis) {
+    this(budgetMillis, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a Monte Carlo tree search strategy with the given number of worker threads.
+   * @param budgetMillis the time each move may take, in milliseconds
+   * @param threads the number of threads playing out games at the same time
+   * @throws IllegalArgumentException if the budget is negative or too long to count in
+   *                                  nanoseconds, or there are no threads
+   */
+  public MctsStrategy(long budgetMillis, int threads) {
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative.");
+    }
+    if (budgetMillis > AlphaBetaStrategy.MAX_BUDGET_MILLIS) {
+      throw new IllegalArgumentException("Time budget is too long.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Search needs at least 1 thread.");
+    }
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.threads = threads;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
+          throws IllegalAccessException {
+    List<ReversiCell> moves = model.getPossibleMoves();
+    if (moves.isEmpty()) {
+      throw new IllegalAccessException("No available cells with Monte Carlo strategy.");
+    }
+
+    CompactBoard root = new CompactBoard(model);
+    long start = System.nanoTime();
+    // may wrap around, so it is only ever compared by subtracting
+    long deadline = start + this.budgetNanos;
+
+    List<Callable<Worker>> workers = new ArrayList<>();
+    for (int i = 0; i < this.threads; i++) {
+      workers.add(new Worker(root, deadline));
+    }
+    // visits of every root move, by cell index, over all the workers' trees
+    long[] visits = new long[root.getCellCount()];
+    long total = 0;
+    try {
+      // cancels every worker if this thread is interrupted while waiting
+      for (Future<Worker> result : SearchThreads.get().invokeAll(workers)) {
+        Worker worker = result.get();
+        total += worker.playouts;
+        for (Node child : worker.root.children) {
+          visits[child.move] += child.visits;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Search was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed.", e.getCause());
+    }
+    this.playouts = total;
+    this.elapsedNanos = System.nanoTime() - start;
+
+    // most visited move, the first one in index order if several are equal
+    ReversiCell best = moves.get(0);
+    long mostVisits = -1;
+    for (ReversiCell move : moves) {
+      long moveVisits = visits[root.getIndex(move)];
+      if (moveVisits > mostVisits) {
+        mostVisits = moveVisits;
+        best = move;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Gets the number of games played out on the last move chosen, by all the threads together.
+   * @return the number of playouts
+   */
+  public long getPlayouts() {
+    return this.playouts;
+  }
+
+  /**
+   * Gets how many games a second were played out on the last move chosen.
+   * @return the number of playouts per second, 0 if no move has been chosen yet
+   */
+  public double getPlayoutsPerSecond() {
+    return this.elapsedNanos == 0 ? 0 : this.playouts * 1e9 / this.elapsedNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isHuman() {
+    return false;
+  }
+
+  /**
+   * One thread's search: its own tree, grown from the root position until the deadline, or
+   * until the thread is interrupted.
+   */
+  private static final class Worker implements Callable<Worker> {
+    private final CompactBoard start;
+    private final CompactBoard board;
+    private final long deadline;
+    private final int[] moves;
+    private final Node root;
+    private long playouts;
+
+    private Worker(CompactBoard start, long deadline) {
+      this.start = start;
+      this.board = new CompactBoard(start);
+      this.deadline = deadline;
+      this.moves = new int[start.getCellCount()];
+      this.root = new Node(null, -1, !start.isBlackToMove(), this.board, this.moves);
+    }
+
+    @Override
+    public Worker call() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      // every worker plays at least one game, so every search has a result
+      do {
+        this.board.copyFrom(this.start);
+        Node node = this.root;
+
+        // follow the most promising moves down to a node with moves left to try
+        while (node.untriedCount == 0 && !node.children.isEmpty()) {
+          node = node.select();
+          this.play(node.move);
+        }
+        // try one new move
+        if (node.untriedCount > 0) {
+          int pick = random.nextInt(node.untriedCount);
+          int move = node.untried[pick];
+          node.untried[pick] = node.untried[--node.untriedCount];
+          boolean blackMoved = this.board.isBlackToMove();
+          this.play(move);
+          Node child = new Node(node, move, blackMoved, this.board, this.moves);
+          node.children.add(child);
+          node = child;
+        }
+        // play random moves to the end of the game
+        while (!this.board.isGameOver()) {
+          int count = this.board.getMoves(this.moves);
+          if (count == 0) {
+            this.board.pass();
+          } else {
+            this.board.play(this.moves[random.nextInt(count)]);
+          }
+        }
+        // a black win is worth 1 to black and 0 to white, a tie half to each
+        int lead = this.board.getBlackCount() - this.board.getWhiteCount();
+        double blackResult = lead > 0 ? 1 : lead < 0 ? 0 : 0.5;
+        for (; node != null; node = node.parent) {
+          node.visits++;
+          node.wins += node.blackMoved ? blackResult : 1 - blackResult;
+        }
+        this.playouts++;
+      } while (System.nanoTime() - this.deadline < 0
+              && !Thread.currentThread().isInterrupted());
+      return this;
+    }
+
+    /**
+     * Plays a move of the tree on the board, -1 being a pass.
+     */
+    private void play(int move) {
+      if (move < 0) {
+        this.board.pass();
+      } else {
+        this.board.play(move);
+      }
+    }
+  }
+
+  /**
+   * A position in a worker's tree, reached by one move from its parent.
+   */
+  private static final class Node {
+    private final Node parent;
+    // index of the cell played to reach this node, -1 for a pass
+    private final int move;
+    // true if black made that move, so the wins here are black's
+    private final boolean blackMoved;
+    private final List<Node> children = new ArrayList<>();
+    // moves from this position that have no node yet, the first untriedCount of the array
+    private final int[] untried;
+    private int untriedCount;
+    private int visits;
+    private double wins;
+
+    private Node(Node parent, int move, boolean blackMoved, CompactBoard board, int[] buffer) {
+      this.parent = parent;
+      this.move = move;
+      this.blackMoved = blackMoved;
+      if (board.isGameOver()) {
+        this.untried = new int[0];
+      } else {
+        int count = board.getMoves(buffer);
+        if (count == 0) {
+          // the only move is to pass
+          this.untried = new int[] {-1};
+        } else {
+          this.untried = new int[count];
+          System.arraycopy(buffer, 0, this.untried, 0, count);
+        }
+      }
+      this.untriedCount = this.untried.length;
+    }
+
+    /**
+     * Picks the child with the best upper confidence bound, the first one if several are equal.
+     */
+    private Node select() {
+      double logVisits = Math.log(this.visits);
+      Node best = null;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      for (Node child : this.children) {
+        double bound = child.wins / child.visits
+                + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (bound > bestBound) {
+          bestBound = bound;
+          best = child;
+        }
+      }
+      return best;
+    }
+  }
+}
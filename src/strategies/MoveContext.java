@@ -0,0 +1,109 @@
+package cs3500.reversi.strategies;
+
+import cs3500.reversi.model.BoardTopology;
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+
+/**
+ * Everything the simple strategies need to know about the moves of one turn, worked out once so
+ * that a chain of strategies, like {@link CombinedStrategy}, does not scan the board once per
+ * strategy. The legal moves are found with one pass over the board when the context is made.
+ * Whether a move is at or next to a corner is one lookup in the board's {@link BoardTopology}.
+ *
+ * <p>The corners are the ones the corner strategies have always used, the topology's row
+ * corners: on square boards the four corners, on hex boards the corners of the top and bottom
+ * rows.
+ */
+final class MoveContext {
+
+  private final ReadOnlyReversi model;
+  private final CellRegistry registry;
+  private final BoardTopology topology;
+  // cell indices of the legal moves, in index order
+  private final int[] moves;
+  private final int moveCount;
+
+  /**
+   * Finds the legal moves of the player to move.
+   * @param model the game to choose a move in
+   */
+  MoveContext(ReadOnlyReversi model) {
+    this(model, false);
+  }
+
+  /**
+   * Finds the legal moves of the player to move, leaving out the cells next to corners without
+   * checking them if asked to, for a strategy that would never pick them.
+   * @param model the game to choose a move in
+   * @param skipNextToCorners whether to leave out the cells next to corners
+   */
+  MoveContext(ReadOnlyReversi model, boolean skipNextToCorners) {
+    this.model = model;
+    this.registry = CellRegistry.forGame(model);
+    this.topology = BoardTopology.forRegistry(this.registry);
+
+    int[] found = new int[this.registry.getCellCount()];
+    int count = 0;
+    for (int i = 0; i < found.length; i++) {
+      if (!(skipNextToCorners && this.topology.isNextToRowCorner(i))
+              && model.isMoveLegalAt(this.registry.getCell(i))) {
+        found[count++] = i;
+      }
+    }
+    this.moves = found;
+    this.moveCount = count;
+  }
+
+  /**
+   * Gets the game the moves are in.
+   * @return the game
+   */
+  ReadOnlyReversi getModel() {
+    return this.model;
+  }
+
+  /**
+   * Is the game played on hexes?.
+   * @return true for a hex board, false for a square one
+   */
+  boolean isHex() {
+    return this.registry.isHex();
+  }
+
+  /**
+   * Gets the number of legal moves.
+   * @return the number of moves
+   */
+  int getMoveCount() {
+    return this.moveCount;
+  }
+
+  /**
+   * Gets a legal move. Moves are in the order of the cells' indices, which is the order of
+   * scanning q then r on hex boards and x then y on square ones.
+   * @param move the number of the move, from 0
+   * @return the cell of the move
+   */
+  ReversiCell getMove(int move) {
+    return this.registry.getCell(this.moves[move]);
+  }
+
+  /**
+   * Determines if a legal move is at a corner.
+   * @param move the number of the move, from 0
+   * @return true if the move's cell is a corner
+   */
+  boolean isCorner(int move) {
+    return this.topology.isRowCorner(this.moves[move]);
+  }
+
+  /**
+   * Determines if a legal move is next to a corner, without being at one.
+   * @param move the number of the move, from 0
+   * @return true if the move's cell shares a side or a point with a corner
+   */
+  boolean isNextToCorner(int move) {
+    return this.topology.isNextToRowCorner(this.moves[move]);
+  }
+}
@@ -0,0 +1,173 @@
+package cs3500.reversi.strategies;
+
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.reversi.model.BoardTopology;
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReadOnlyReversi;
+import cs3500.reversi.model.ReversiCell;
+
+/**
+ * The implementation of a hex strategy that plays like the provider's strategies, but reads our
+ * game directly instead of going through {@link StrategyAdapter}, a copy of the game for every
+ * hex looked at, and the provider's coordinates. Each provider strategy is a chain of steps, and
+ * the factory methods make the same chains:
+ * <ul>
+ *   <li>cherry picking: pass if the player is ahead and the opponent just passed, which ends the
+ *   game with a win ({@code CherryPicker})</li>
+ *   <li>play at corners: the corner that gains the most discs, the first in the provider's order
+ *   of corners on a tie ({@code PlayAtCorners})</li>
+ *   <li>avoid corner neighbors: the hex gaining the most discs that is not next to a corner
+ *   ({@code AvoidHexagonsBorderingCorners})</li>
+ *   <li>capture most: the hex gaining the most discs, or pass if there is none
+ *   ({@code CaptureMostPieces})</li>
+ * </ul>
+ * Ties between hexes gaining the same number of discs go to the uppermost, then leftmost hex,
+ * which is the lowest r, then highest s, in our coordinates. Passing is choosing no hex.
+ */
+public class ProviderStrategyPort implements HexStrategy {
+
+  private final boolean cherryPick;
+  private final boolean playCorners;
+  private final boolean avoidCornerNeighbors;
+
+  /**
+   * Constructs a strategy with the given steps before capturing the most discs.
+   * @param cherryPick whether to pass first if that wins the game
+   * @param playCorners whether to play at a corner next if one is legal
+   * @param avoidCornerNeighbors whether to play away from the corners' neighbors next
+   */
+  public ProviderStrategyPort(boolean cherryPick, boolean playCorners,
+                              boolean avoidCornerNeighbors) {
+    this.cherryPick = cherryPick;
+    this.playCorners = playCorners;
+    this.avoidCornerNeighbors = avoidCornerNeighbors;
+  }
+
+  /**
+   * Makes the strategy that plays like the provider's {@code CaptureMostPieces}.
+   * @return the strategy
+   */
+  public static ProviderStrategyPort captureMostPieces() {
+    return new ProviderStrategyPort(false, false, false);
+  }
+
+  /**
+   * Makes the strategy that plays like the provider's {@code PlayCornersMaxScore}.
+   * @return the strategy
+   */
+  public static ProviderStrategyPort playCornersMaxScore() {
+    return new ProviderStrategyPort(false, true, false);
+  }
+
+  /**
+   * Makes the strategy that plays like the provider's {@code AvoidCornerAdjacencyMaxScore}.
+   * @return the strategy
+   */
+  public static ProviderStrategyPort avoidCornerAdjacencyMaxScore() {
+    return new ProviderStrategyPort(false, false, true);
+  }
+
+  /**
+   * Makes the strategy that plays like the provider's {@code OptimizeCornerStratMaxScore}.
+   * @return the strategy
+   */
+  public static ProviderStrategyPort optimizeCornerStratMaxScore() {
+    return new ProviderStrategyPort(false, true, true);
+  }
+
+  /**
+   * Makes the strategy that plays like the provider's {@code CherryPickerCMSOptimizer}.
+   * @return the strategy
+   */
+  public static ProviderStrategyPort cherryPickerCMSOptimizer() {
+    return new ProviderStrategyPort(true, true, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ReversiCell chooseHex(ReadOnlyReversi model, DiscStatus playerType)
+          throws IllegalAccessException {
+    if (model.isGameOver()) {
+      throw new IllegalAccessException("Cannot make move with current strategy");
+    }
+    if (this.cherryPick && model.getConsecutivePasses() == 1) {
+      int own = model.isBlackTurn() ? model.getBlackScore() : model.getWhiteScore();
+      int opponent = model.isBlackTurn() ? model.getWhiteScore() : model.getBlackScore();
+      if (own > opponent) {
+        throw new IllegalAccessException("Passing wins the game.");
+      }
+    }
+
+    CellRegistry registry = CellRegistry.forHex(model.getGridSize());
+    // discs each legal move flips by cell index, -1 if the move is not legal
+    int[] flips = new int[registry.getCellCount()];
+    Arrays.fill(flips, -1);
+    List<ReversiCell> legal = model.getPossibleMoves();
+    for (ReversiCell cell : legal) {
+      flips[registry.getIndex(cell)] = model.analyzeMove(cell).getTotalFlips();
+    }
+
+    // the provider's order of corners is reading order
+    BoardTopology topology = BoardTopology.forRegistry(registry);
+    if (this.playCorners) {
+      int best = -1;
+      for (int corner : topology.getCorners()) {
+        if (flips[corner] >= 0 && (best < 0 || flips[corner] > flips[best])) {
+          best = corner;
+        }
+      }
+      if (best >= 0) {
+        return registry.getCell(best);
+      }
+    }
+    if (this.avoidCornerNeighbors) {
+      ReversiCell best = mostFlips(registry, flips, topology);
+      if (best != null) {
+        return best;
+      }
+    }
+    ReversiCell best = mostFlips(registry, flips, null);
+    if (best == null) {
+      throw new IllegalAccessException("Cannot make move with current strategy");
+    }
+    return best;
+  }
+
+  /**
+   * Finds the legal move flipping the most discs, the uppermost and then leftmost on a tie.
+   * @param skipNextToCorners the board's topology to leave out cells next to corners, null to
+   *                          leave out nothing
+   * @return the move, null if there is none
+   */
+  private static ReversiCell mostFlips(CellRegistry registry, int[] flips,
+                                       BoardTopology skipNextToCorners) {
+    ReversiCell best = null;
+    int bestFlips = -1;
+    for (int i = 0; i < flips.length; i++) {
+      if (flips[i] < 0 || (skipNextToCorners != null && skipNextToCorners.isNextToCorner(i))) {
+        continue;
+      }
+      ReversiCell cell = registry.getCell(i);
+      if (best == null || flips[i] > bestFlips
+              || (flips[i] == bestFlips && (cell.getR() < best.getR()
+              || (cell.getR() == best.getR() && cell.getS() > best.getS())))) {
+        best = cell;
+        bestFlips = flips[i];
+      }
+    }
+    return best;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isHuman() {
+    return false;
+  }
+}
@@ -0,0 +1,32 @@
+package cs3500.reversi.strategies;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The threads the multi-threaded strategies search on, shared by every strategy and kept from
+ * one move to the next, so a move does not start and stop threads of its own. A thread is made
+ * when every one is busy and ends once it has been idle for a minute. The threads are daemons,
+ * so a search still running does not keep the program running.
+ */
+final class SearchThreads {
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+  private static final ExecutorService POOL = Executors.newCachedThreadPool(task -> {
+    Thread thread = new Thread(task, "reversi-search-" + COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private SearchThreads() {
+  }
+
+  /**
+   * Gets the shared threads. They must not be shut down, cancel the tasks given to them instead.
+   * @return the threads, as an executor
+   */
+  static ExecutorService get() {
+    return POOL;
+  }
+}
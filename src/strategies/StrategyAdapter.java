@@ -45,7 +45,6 @@ public class StrategyAdapter implements HexStrategy {
     int r = - hexagon.getY();
     int s = - hexagon.getX();
     int q = - r - s;
-    System.out.println(q + "," + r + "," + s);
     return new Hex(q, r, s);
   }
 
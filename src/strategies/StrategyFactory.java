@@ -0,0 +1,95 @@
+package cs3500.reversi.strategies;
+
+/**
+ * Makes the computer strategies by the names they are given on the command line, so every
+ * program that starts games takes the same names.
+ */
+public final class StrategyFactory {
+
+  private StrategyFactory() {
+  }
+
+  /**
+   * Makes a new computer strategy with the given name. Every call makes a new strategy, since
+   * some strategies keep state between moves and are not safe to share between games. The
+   * provider's strategies are made as their {@link ProviderStrategyPort}s, which choose the same
+   * moves without going through the provider's model. The multi-threaded strategies search on
+   * every core of the machine, and the searches keep their results in tables of their default
+   * sizes.
+   * @param name the name of the strategy, "strategy1" to "strategy8" or "providerStrategy1" to
+   *             "providerStrategy4"
+   * @return the strategy
+   * @throws IllegalArgumentException if there is no computer strategy with that name
+   */
+  public static HexStrategy create(String name) {
+    switch (name) {
+      case "strategy5":
+        return new AlphaBetaStrategy(1000);
+      case "strategy6":
+        return new MctsStrategy(1000);
+      case "strategy7":
+        return new LazySmpStrategy(1000);
+      default:
+        return create(name, 1, 0);
+    }
+  }
+
+  /**
+   * Makes a new computer strategy with the given name, searching on the given number of threads
+   * if it is a multi-threaded strategy and keeping results in a table of the given size if it
+   * has one. Every call makes a new strategy, see {@link #create(String)}.
+   * @param name the name of the strategy, "strategy1" to "strategy8" or "providerStrategy1" to
+   *             "providerStrategy4"
+   * @param threads the number of threads a multi-threaded strategy searches on
+   * @param tableBytes the memory of the table a searching strategy keeps its results in, in
+   *                   bytes
+   * @return the strategy
+   * @throws IllegalArgumentException if there is no computer strategy with that name, there are
+   *                                  no threads, or the table is too small for a searching
+   *                                  strategy
+   */
+  public static HexStrategy create(String name, int threads, long tableBytes) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Strategy needs at least 1 thread.");
+    }
+    switch (name) {
+      case "strategy1":
+        return new AvoidNextToCornerStrategy();
+      case "strategy2":
+        return new CaptureCornersStrategy();
+      case "strategy3":
+        return new CaptureMostStrategy();
+      case "strategy4":
+        return new CombinedStrategy();
+      case "strategy5":
+        return new AlphaBetaStrategy(1000, Integer.MAX_VALUE,
+                new TranspositionTable(tableBytes));
+      case "strategy6":
+        return new MctsStrategy(1000, threads);
+      case "strategy7":
+        return new LazySmpStrategy(1000, threads, Integer.MAX_VALUE,
+                new TranspositionTable(tableBytes));
+      case "strategy8":
+        return new EndgameStrategy(new CombinedStrategy());
+      case "providerStrategy1":
+        return ProviderStrategyPort.captureMostPieces();
+      case "providerStrategy2":
+        return ProviderStrategyPort.avoidCornerAdjacencyMaxScore();
+      case "providerStrategy3":
+        return ProviderStrategyPort.optimizeCornerStratMaxScore();
+      case "providerStrategy4":
+        return ProviderStrategyPort.playCornersMaxScore();
+      default:
+        throw new IllegalArgumentException("Cannot handle this type of player");
+    }
+  }
+
+  /**
+   * Determines if the strategy with the given name searches on more than one thread.
+   * @param name the name of the strategy
+   * @return true for the strategies that take a number of threads
+   */
+  public static boolean isMultiThreaded(String name) {
+    return "strategy6".equals(name) || "strategy7".equals(name);
+  }
+}
@@ -0,0 +1,165 @@
+package cs3500.reversi.strategies;
+
+/**
+ * A fixed-size table of search results keyed by position hash, see
+ * {@link cs3500.reversi.model.ReadOnlyReversi#getPositionHash()}, so a search can reuse what it
+ * found for a position it reaches again, on another path or on a later move of the same game.
+ *
+ * <p>Each entry is two longs: the result packed into one, and the hash XORed with the result in
+ * the other. Many threads can read and write the table at once without locks. A write torn by
+ * another thread leaves a pair whose XOR no longer matches the hash, so it reads as a miss
+ * instead of a wrong result. Entries come in buckets of two: one slot keeps the deepest result
+ * seen for any of its positions, the other always takes the latest result.
+ *
+ * <p>A packed result holds the search depth, the bound type, the score and the best move's cell
+ * index, and is read with the static getters. {@link #MISS} is never a stored result.
+ */
+public final class TranspositionTable {
+
+  /**
+   * Result of a probe for a position the table holds nothing for.
+   */
+  public static final long MISS = 0L;
+
+  /**
+   * Bound type of a score that is the exact value of the position.
+   */
+  public static final int EXACT = 0;
+  /**
+   * Bound type of a score the position is worth at least, the search was cut off above it.
+   */
+  public static final int LOWER = 1;
+  /**
+   * Bound type of a score the position is worth at most, no move reached above it.
+   */
+  public static final int UPPER = 2;
+
+  // bytes one entry takes, the key and the packed result
+  private static final int ENTRY_BYTES = 16;
+  // layout of a packed result, lowest bits first: best move + 1 (0 for none), score, bound,
+  // depth, and a bit that is always set so no result is MISS
+  private static final int MOVE_BITS = 20;
+  private static final int SCORE_SHIFT = MOVE_BITS;
+  private static final int BOUND_SHIFT = SCORE_SHIFT + 32;
+  private static final int DEPTH_SHIFT = BOUND_SHIFT + 2;
+  private static final long USED = 1L << 63;
+
+  // keys[i] is the hash of the position in slot i XORed with results[i]
+  private final long[] keys;
+  private final long[] results;
+  // slots - 1, and slots is a power of two, so a hash picks a bucket by masking
+  private final int mask;
+
+  /**
+   * Constructs an empty table that takes up no more than the given memory.
+   * @param maxBytes the most memory the entries may take, in bytes
+   * @throws IllegalArgumentException if the memory is too small for a bucket of entries
+   */
+  public TranspositionTable(long maxBytes) {
+    long maxSlots = maxBytes / ENTRY_BYTES;
+    if (maxSlots < 2) {
+      throw new IllegalArgumentException("Table needs room for at least 2 entries.");
+    }
+    // the biggest power of two that fits, and that an array can hold
+    int slots = (int) Math.min(Long.highestOneBit(maxSlots), 1 << 30);
+    this.keys = new long[slots];
+    this.results = new long[slots];
+    this.mask = slots - 1;
+  }
+
+  /**
+   * Looks a position up.
+   * @param hash the hash of the position
+   * @return the packed result stored for it, {@link #MISS} if there is none
+   */
+  public long probe(long hash) {
+    int bucket = (int) hash & this.mask & ~1;
+    for (int slot = bucket; slot <= bucket + 1; slot++) {
+      long result = this.results[slot];
+      if (result != MISS && (this.keys[slot] ^ result) == hash) {
+        return result;
+      }
+    }
+    return MISS;
+  }
+
+  /**
+   * Stores the result of searching a position. The deeper slot of the bucket only gives way to
+   * a result at least as deep, or to a newer result for the same position.
+   * @param hash the hash of the position
+   * @param depth how many moves deep the position was searched, 0 to 255
+   * @param bound the bound type of the score, {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   * @param score the score of the position
+   * @param move the cell index of the best move found, -1 if there is none
+   * @throws IllegalArgumentException if the depth or move cannot be packed
+   */
+  public void store(long hash, int depth, int bound, int score, int move) {
+    if (depth < 0 || depth > 255 || move < -1 || move >= (1 << MOVE_BITS) - 1) {
+      throw new IllegalArgumentException("Depth or move out of range.");
+    }
+    long result = USED | ((long) depth << DEPTH_SHIFT) | ((long) bound << BOUND_SHIFT)
+            | ((score & 0xFFFFFFFFL) << SCORE_SHIFT) | (move + 1);
+
+    int deep = (int) hash & this.mask & ~1;
+    long deepResult = this.results[deep];
+    boolean samePosition = (this.keys[deep] ^ deepResult) == hash;
+    boolean deeper = deepResult == MISS || depth >= getDepth(deepResult);
+    int slot = samePosition || deeper ? deep : deep + 1;
+    this.results[slot] = result;
+    this.keys[slot] = hash ^ result;
+  }
+
+  /**
+   * Empties the table.
+   */
+  public void clear() {
+    for (int i = 0; i < this.results.length; i++) {
+      this.results[i] = MISS;
+      this.keys[i] = 0L;
+    }
+  }
+
+  /**
+   * Gets the number of entries the table can hold.
+   * @return the number of slots
+   */
+  public int getCapacity() {
+    return this.results.length;
+  }
+
+  /**
+   * Gets how many moves deep a stored position was searched.
+   * @param result a packed result from {@link #probe(long)}
+   * @return the depth of the search
+   */
+  public static int getDepth(long result) {
+    return (int) (result >>> DEPTH_SHIFT) & 0xFF;
+  }
+
+  /**
+   * Gets the bound type of a stored score.
+   * @param result a packed result from {@link #probe(long)}
+   * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   */
+  public static int getBound(long result) {
+    return (int) (result >>> BOUND_SHIFT) & 0x3;
+  }
+
+  /**
+   * Gets a stored score.
+   * @param result a packed result from {@link #probe(long)}
+   * @return the score of the position
+   */
+  public static int getScore(long result) {
+    return (int) (result >>> SCORE_SHIFT);
+  }
+
+  /**
+   * Gets the best move found for a stored position.
+   * @param result a packed result from {@link #probe(long)}
+   * @return the cell index of the move, -1 if there is none
+   */
+  public static int getMove(long result) {
+    return (int) (result & ((1 << MOVE_BITS) - 1)) - 1;
+  }
+}
@@ -0,0 +1,204 @@
+package cs3500.reversi.tools;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A small benchmark harness: runs an operation over and over, first to warm up, then for a set
+ * time, and reports the time and memory each run of it took on average. Memory is what the
+ * thread allocated while running the operation, from the JVM's own count, so a benchmark can
+ * show that a path makes no garbage.
+ *
+ * <p>Runs come in batches. Anything an operation needs fresh, such as a game to place a disc on,
+ * is made by the batch's setup, which is neither timed nor counted towards memory.
+ */
+public final class Benchmark {
+
+  /**
+   * One run of the code being measured.
+   */
+  public interface Operation {
+    /**
+     * Runs the code once.
+     * @param i the number of the run in its batch, from 0
+     * @return anything the code computed, so it is not optimized away
+     */
+    Object run(int i);
+  }
+
+  // runs in a batch when no number is given
+  private static final int DEFAULT_BATCH = 256;
+
+  private final long warmupNanos;
+  private final long measureNanos;
+  private final com.sun.management.ThreadMXBean allocation;
+  // every result goes here, so the JIT cannot tell it is unused
+  private volatile Object sink;
+
+  /**
+   * Constructs a harness that warms up and measures for the given times.
+   * @param warmupMillis the time to run an operation before measuring it, in milliseconds
+   * @param measureMillis the time to measure an operation for, in milliseconds
+   * @throws IllegalArgumentException if a time is negative or nothing would be measured
+   */
+  public Benchmark(long warmupMillis, long measureMillis) {
+    if (warmupMillis < 0 || measureMillis <= 0) {
+      throw new IllegalArgumentException("Times have to be positive.");
+    }
+    this.warmupNanos = warmupMillis * 1_000_000L;
+    this.measureNanos = measureMillis * 1_000_000L;
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (threads instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+      this.allocation = (com.sun.management.ThreadMXBean) threads;
+      this.allocation.setThreadAllocatedMemoryEnabled(true);
+    } else {
+      this.allocation = null;
+    }
+  }
+
+  /**
+   * Measures an operation that needs nothing fresh for each run.
+   * @param name the name to report the result under
+   * @param operation the code to measure
+   * @return the result
+   */
+  public Result measure(String name, Operation operation) {
+    return this.measure(name, DEFAULT_BATCH, null, operation);
+  }
+
+  /**
+   * Measures an operation that needs nothing fresh for each run, in batches of the given size.
+   * @param name the name to report the result under
+   * @param batchSize the number of runs in a batch
+   * @param operation the code to measure
+   * @return the result
+   * @throws IllegalArgumentException if the batch size is less than 1
+   */
+  public Result measure(String name, int batchSize, Operation operation) {
+    return this.measure(name, batchSize, null, operation);
+  }
+
+  /**
+   * Measures an operation, running the setup before every batch of runs.
+   * @param name the name to report the result under
+   * @param batchSize the number of runs in a batch
+   * @param setup the code to run before every batch, not measured, null if there is none
+   * @param operation the code to measure
+   * @return the result
+   * @throws IllegalArgumentException if the batch size is less than 1
+   */
+  public Result measure(String name, int batchSize, Runnable setup, Operation operation) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch needs at least 1 run.");
+    }
+    this.runFor(this.warmupNanos, batchSize, setup, operation, new long[3]);
+    long[] totals = new long[3];
+    this.runFor(this.measureNanos, batchSize, setup, operation, totals);
+    double bytes = this.allocation == null ? Double.NaN : (double) totals[2] / totals[0];
+    return new Result(name, totals[0], (double) totals[1] / totals[0], bytes);
+  }
+
+  /**
+   * Runs batches until the measured time adds up to the given time. Reading the allocated memory
+   * can take longer than a run, so with no setup to leave out it is only read at the start and
+   * end.
+   * @param totals where to add the runs, nanoseconds and bytes measured
+   */
+  private void runFor(long nanos, int batchSize, Runnable setup, Operation operation,
+                      long[] totals) {
+    long bytesAtStart = setup == null ? this.allocatedBytes() : 0;
+    long measured = 0;
+    while (measured < nanos) {
+      long bytesBefore = 0;
+      if (setup != null) {
+        setup.run();
+        bytesBefore = this.allocatedBytes();
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < batchSize; i++) {
+        this.sink = operation.run(i);
+      }
+      long elapsed = System.nanoTime() - start;
+      if (setup != null) {
+        totals[2] += this.allocatedBytes() - bytesBefore;
+      }
+      measured += elapsed;
+      totals[0] += batchSize;
+      totals[1] += elapsed;
+    }
+    if (setup == null) {
+      totals[2] += this.allocatedBytes() - bytesAtStart;
+    }
+  }
+
+  /**
+   * Gets the memory this thread has allocated so far, 0 if the JVM cannot count it.
+   */
+  private long allocatedBytes() {
+    if (this.allocation == null) {
+      return 0;
+    }
+    return this.allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * The average time and memory of one run of a measured operation.
+   */
+  public static final class Result {
+    private final String name;
+    private final long runs;
+    private final double nanosPerRun;
+    private final double bytesPerRun;
+
+    private Result(String name, long runs, double nanosPerRun, double bytesPerRun) {
+      this.name = name;
+      this.runs = runs;
+      this.nanosPerRun = nanosPerRun;
+      this.bytesPerRun = bytesPerRun;
+    }
+
+    /**
+     * Gets the name the result is reported under.
+     * @return the name
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the number of runs measured.
+     * @return the number of runs
+     */
+    public long getRuns() {
+      return this.runs;
+    }
+
+    /**
+     * Gets the average time of one run.
+     * @return the time in nanoseconds
+     */
+    public double getNanosPerRun() {
+      return this.nanosPerRun;
+    }
+
+    /**
+     * Gets the average memory allocated by one run.
+     * @return the memory in bytes, NaN if the JVM cannot count it
+     */
+    public double getBytesPerRun() {
+      return this.bytesPerRun;
+    }
+
+    /**
+     * Formats the result as one line of a report, the name, time and memory in columns.
+     * @return the line
+     */
+    @Override
+    public String toString() {
+      String bytes = Double.isNaN(this.bytesPerRun) ? "n/a"
+              : String.format("%.1f", this.bytesPerRun);
+      return String.format("%-64s %14.1f ns/op %14s B/op", this.name, this.nanosPerRun, bytes);
+    }
+  }
+}
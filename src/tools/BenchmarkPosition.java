@@ -0,0 +1,164 @@
+package cs3500.reversi.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.reversi.model.AbstractReversi;
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.SquareReversi;
+
+/**
+ * A fixed position to benchmark on, reached by playing random moves from the start of a game.
+ * The moves come from a seed made from the shape, size and phase, so the same position is
+ * benchmarked on every run and every machine.
+ */
+public final class BenchmarkPosition {
+
+  /**
+   * How far into the game a position is, as a share of the moves of a whole random game. Random
+   * games often end with many cells still empty, hex games most of all, so a share of the board
+   * filled would not be reached by every game.
+   */
+  public enum Phase {
+    OPENING(0.0), MIDDLEGAME(0.5), ENDGAME(0.85);
+
+    private final double played;
+
+    Phase(double played) {
+      this.played = played;
+    }
+  }
+
+  private final boolean hex;
+  private final int gridSize;
+  private final Phase phase;
+  private final ReversiModel position;
+
+  private BenchmarkPosition(boolean hex, int gridSize, Phase phase) {
+    this.hex = hex;
+    this.gridSize = gridSize;
+    this.phase = phase;
+    Random random = new Random(31L * gridSize + phase.ordinal() + (hex ? 0 : 1000));
+
+    // play a whole game, writing down the moves, null for a pass
+    ReversiModel game = this.newStartedGame();
+    List<ReversiCell> moves = new ArrayList<>();
+    while (true) {
+      List<ReversiCell> legal = game.getPossibleMoves();
+      if (!legal.isEmpty()) {
+        moves.add(legal.get(random.nextInt(legal.size())));
+      } else if (game.getConsecutivePasses() == 0) {
+        moves.add(null);
+      } else {
+        break;
+      }
+      play(game, moves.get(moves.size() - 1));
+    }
+
+    // then play its first moves again, past any pass so the player to move has a move
+    this.position = this.newStartedGame();
+    int played = (int) (phase.played * moves.size());
+    for (int i = 0; i < played || moves.get(i) == null; i++) {
+      play(this.position, moves.get(i));
+    }
+  }
+
+  /**
+   * Makes a position on a hex grid.
+   * @param gridSize the size of the grid, odd and at least 3
+   * @param phase how far into the game the position is
+   * @return the position
+   * @throws IllegalArgumentException if no hex grid has that size
+   */
+  public static BenchmarkPosition hex(int gridSize, Phase phase) {
+    CellRegistry.forHex(gridSize);
+    return new BenchmarkPosition(true, gridSize, phase);
+  }
+
+  /**
+   * Makes a position on a square grid.
+   * @param gridSize the size of the grid, even and at least 4
+   * @param phase how far into the game the position is
+   * @return the position
+   * @throws IllegalArgumentException if no square grid has that size
+   */
+  public static BenchmarkPosition square(int gridSize, Phase phase) {
+    CellRegistry.forSquare(gridSize);
+    return new BenchmarkPosition(false, gridSize, phase);
+  }
+
+  /**
+   * Makes every phase of a position for each of the given sizes.
+   * @param hex true for hex grids, false for square grids
+   * @param gridSizes the sizes of the grids
+   * @return the positions, every phase of the first size first
+   */
+  public static List<BenchmarkPosition> corpus(boolean hex, int... gridSizes) {
+    List<BenchmarkPosition> positions = new ArrayList<>();
+    for (int gridSize : gridSizes) {
+      for (Phase phase : Phase.values()) {
+        positions.add(hex ? hex(gridSize, phase) : square(gridSize, phase));
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * Makes a new game on the grid the shape and size start with, and sets it up.
+   */
+  private ReversiModel newStartedGame() {
+    ReversiModel game = this.hex ? new HexReversi(this.gridSize)
+            : new SquareReversi(this.gridSize);
+    game.setup();
+    return game;
+  }
+
+  /**
+   * Makes a move for the player to move, passing if the move is null.
+   */
+  private static void play(ReversiModel game, ReversiCell move) {
+    DiscStatus player = game.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+    if (move == null) {
+      game.pass(player);
+    } else {
+      game.placeDisc(player, move);
+    }
+  }
+
+  /**
+   * Makes a new game in this position, on the grid a new game of its size would use. The player
+   * to move always has a legal move.
+   * @return the game
+   */
+  public ReversiModel newGame() {
+    return AbstractReversi.copyOf(this.position);
+  }
+
+  /**
+   * Gets the cells of the grid, in index order.
+   * @return every cell of the grid
+   */
+  public List<ReversiCell> getCells() {
+    CellRegistry registry = this.hex ? CellRegistry.forHex(this.gridSize)
+            : CellRegistry.forSquare(this.gridSize);
+    List<ReversiCell> cells = new ArrayList<>();
+    for (int i = 0; i < registry.getCellCount(); i++) {
+      cells.add(registry.getCell(i));
+    }
+    return cells;
+  }
+
+  /**
+   * Gets a name for the position, such as "hex 11 middlegame".
+   * @return the name
+   */
+  public String getName() {
+    return (this.hex ? "hex " : "square ") + this.gridSize + " "
+            + this.phase.name().toLowerCase();
+  }
+}
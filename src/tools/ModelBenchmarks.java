@@ -0,0 +1,100 @@
+package cs3500.reversi.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Benchmarks the model methods the strategies and views call the most, on hex and square games
+ * of several sizes, each at the opening, middlegame and endgame. Prints the time and memory each
+ * call takes on average, one line per method and position.
+ */
+public final class ModelBenchmarks {
+
+  private static final int[] HEX_SIZES = {5, 11, 21, 41};
+  private static final int[] SQUARE_SIZES = {8, 16, 32};
+  // games made fresh for every batch of placed discs
+  private static final int PLACE_BATCH = 16;
+
+  private ModelBenchmarks() {
+  }
+
+  /**
+   * Runs the benchmarks whose names contain the given text, or all of them.
+   * @param args optionally the text to pick benchmarks by, then the warm up and measuring time
+   *             of each benchmark in milliseconds, 200 and 500 if not given
+   */
+  public static void main(String[] args) {
+    String filter = args.length > 0 ? args[0] : "";
+    long warmup = args.length > 1 ? Long.parseLong(args[1]) : 200;
+    long measure = args.length > 2 ? Long.parseLong(args[2]) : 500;
+    Benchmark benchmark = new Benchmark(warmup, measure);
+
+    List<BenchmarkPosition> positions = new ArrayList<>();
+    positions.addAll(BenchmarkPosition.corpus(true, HEX_SIZES));
+    positions.addAll(BenchmarkPosition.corpus(false, SQUARE_SIZES));
+    for (BenchmarkPosition position : positions) {
+      for (Benchmark.Result result : run(benchmark, position, filter)) {
+        System.out.println(result);
+      }
+    }
+  }
+
+  /**
+   * Runs the benchmarks of one position whose names contain the given text.
+   * @param benchmark the harness to measure with
+   * @param position the position to call the methods in
+   * @param filter the text to pick benchmarks by, empty for all of them
+   * @return the results, in the order they were run
+   */
+  public static List<Benchmark.Result> run(Benchmark benchmark, BenchmarkPosition position,
+                                           String filter) {
+    ReversiModel game = position.newGame();
+    List<ReversiCell> cells = position.getCells();
+    List<ReversiCell> moves = game.getPossibleMoves();
+    DiscStatus player = game.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+    String at = " @ " + position.getName();
+
+    List<Benchmark.Result> results = new ArrayList<>();
+    String name = "placeDisc" + at;
+    if (name.contains(filter)) {
+      ReversiModel[] fresh = new ReversiModel[PLACE_BATCH];
+      results.add(benchmark.measure(name, PLACE_BATCH,
+          () -> {
+            for (int i = 0; i < fresh.length; i++) {
+              fresh[i] = position.newGame();
+            }
+          },
+          i -> {
+            fresh[i].placeDisc(player, moves.get(i % moves.size()));
+            return fresh[i];
+          }));
+    }
+    name = "isMoveLegalAt" + at;
+    if (name.contains(filter)) {
+      results.add(benchmark.measure(name, i -> game.isMoveLegalAt(cells.get(i % cells.size()))));
+    }
+    name = "getPossibleMoves" + at;
+    if (name.contains(filter)) {
+      results.add(benchmark.measure(name, i -> game.getPossibleMoves()));
+    }
+    name = "getBlackScore+getWhiteScore" + at;
+    if (name.contains(filter)) {
+      // compared rather than added, so the result is not boxed into a new Integer
+      results.add(benchmark.measure(name, i -> game.getBlackScore() > game.getWhiteScore()));
+    }
+    name = "getCopyOfGrid" + at;
+    if (name.contains(filter)) {
+      results.add(benchmark.measure(name, i -> game.getCopyOfGrid()));
+    }
+    name = "getAdjacentOpposite" + at;
+    if (name.contains(filter)) {
+      results.add(benchmark.measure(name,
+          i -> game.getAdjacentOpposite(cells.get(i % cells.size()))));
+    }
+    return results;
+  }
+}
@@ -0,0 +1,230 @@
+package cs3500.reversi.tools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.CellRegistry;
+import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.SquareReversi;
+
+/**
+ * Counts every position a game of reversi can reach in a number of moves from the start, the
+ * perft way. The count only depends on the rules, so it checks that a grid or model moves like
+ * the others, and the time it takes measures how fast moves are found and played.
+ *
+ * <p>A pass is a move like any other when there is nothing else to play. A game that ends before
+ * the depth is reached, with neither player able to move, counts as one position.
+ */
+public final class Perft {
+
+  private final Supplier<ReversiModel> newGame;
+
+  // results of the last count
+  private long leaves;
+  private long elapsedNanos;
+
+  /**
+   * Constructs a counter for games made by the given supplier.
+   * @param newGame makes a new game that has not been set up yet, every time it is asked
+   * @throws IllegalArgumentException if the supplier is null
+   */
+  public Perft(Supplier<ReversiModel> newGame) {
+    if (newGame == null) {
+      throw new IllegalArgumentException("Game supplier cannot be null.");
+    }
+    this.newGame = newGame;
+  }
+
+  /**
+   * Constructs a counter for hex reversi games of the given size.
+   * @param gridSize the size of the grid, odd and at least 3
+   * @return the counter
+   * @throws IllegalArgumentException if no hex grid has that size
+   */
+  public static Perft forHex(int gridSize) {
+    CellRegistry.forHex(gridSize);
+    return new Perft(() -> new HexReversi(gridSize));
+  }
+
+  /**
+   * Constructs a counter for square reversi games of the given size.
+   * @param gridSize the size of the grid, even and at least 4
+   * @return the counter
+   * @throws IllegalArgumentException if no square grid has that size
+   */
+  public static Perft forSquare(int gridSize) {
+    CellRegistry.forSquare(gridSize);
+    return new Perft(() -> new SquareReversi(gridSize));
+  }
+
+  /**
+   * Counts the positions the given number of moves from the start of the game.
+   * @param depth the number of moves, passes included
+   * @return the number of positions
+   * @throws IllegalArgumentException if the depth is negative
+   */
+  public long count(int depth) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative.");
+    }
+    long start = System.nanoTime();
+    ReversiModel game = this.startGame();
+    this.leaves = countLeaves(game, depth);
+    this.elapsedNanos = System.nanoTime() - start;
+    return this.leaves;
+  }
+
+  /**
+   * Counts the positions the given number of moves from the start of the game, separately for
+   * every first move. The first moves are shared out between threads, each playing on its own
+   * game.
+   * @param depth the number of moves, passes included
+   * @param threads the number of threads counting at the same time
+   * @return the number of positions after each first move, in the order of
+   *         {@link ReversiModel#getPossibleMoves()}
+   * @throws IllegalArgumentException if the depth is less than 1 or there are no threads
+   */
+  public Map<ReversiCell, Long> divide(int depth, int threads) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Depth has to be at least 1.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Count needs at least 1 thread.");
+    }
+    long start = System.nanoTime();
+    List<ReversiCell> moves = this.startGame().getPossibleMoves();
+    List<Callable<Long>> counts = new ArrayList<>();
+    for (ReversiCell move : moves) {
+      counts.add(() -> {
+        ReversiModel game = this.startGame();
+        game.doMove(move);
+        return countLeaves(game, depth - 1);
+      });
+    }
+
+    Map<ReversiCell, Long> divided = new LinkedHashMap<>();
+    long total = 0;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Long>> results = pool.invokeAll(counts);
+      for (int i = 0; i < moves.size(); i++) {
+        long count = results.get(i).get();
+        divided.put(moves.get(i), count);
+        total += count;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Count was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Count failed.", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    this.leaves = total;
+    this.elapsedNanos = System.nanoTime() - start;
+    return divided;
+  }
+
+  /**
+   * Gets the number of positions found by the last count.
+   * @return the number of positions
+   */
+  public long getLeaves() {
+    return this.leaves;
+  }
+
+  /**
+   * Gets how many positions a second the last count found.
+   * @return the number of positions per second, 0 if nothing has been counted yet
+   */
+  public double getNodesPerSecond() {
+    return this.elapsedNanos == 0 ? 0 : this.leaves * 1e9 / this.elapsedNanos;
+  }
+
+  /**
+   * Makes a new game and sets it up.
+   */
+  private ReversiModel startGame() {
+    ReversiModel game = this.newGame.get();
+    game.setup();
+    return game;
+  }
+
+  /**
+   * Counts the positions the given number of moves from the game's position, playing every move
+   * and taking it back so the game ends up as it was.
+   */
+  private static long countLeaves(ReversiModel game, int depth) {
+    if (depth == 0) {
+      return 1;
+    }
+    List<ReversiCell> moves = game.getPossibleMoves();
+    if (moves.isEmpty()) {
+      if (game.getConsecutivePasses() > 0) {
+        // neither player can move, the game is over
+        return 1;
+      }
+      game.doPass();
+      long count = countLeaves(game, depth - 1);
+      game.undoMove();
+      return count;
+    }
+    if (depth == 1) {
+      return moves.size();
+    }
+    long count = 0;
+    for (ReversiCell move : moves) {
+      game.doMove(move);
+      count += countLeaves(game, depth - 1);
+      game.undoMove();
+    }
+    return count;
+  }
+
+  /**
+   * Counts positions from the command line and prints the count after each first move, the
+   * total, and how fast they were counted.
+   * @param args the shape of the grid, "hex" or "square", its size, the depth, and optionally
+   *             the number of threads, every core of the machine if not given
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 4) {
+      throw new IllegalArgumentException("Usage: hex|square size depth [threads]");
+    }
+    int gridSize = Integer.parseInt(args[1]);
+    Perft perft;
+    switch (args[0]) {
+      case "hex":
+        perft = forHex(gridSize);
+        break;
+      case "square":
+        perft = forSquare(gridSize);
+        break;
+      default:
+        throw new IllegalArgumentException("cannot handle this type of reversi game");
+    }
+    int depth = Integer.parseInt(args[2]);
+    int threads = args.length == 4 ? Integer.parseInt(args[3])
+            : Runtime.getRuntime().availableProcessors();
+
+    for (Map.Entry<ReversiCell, Long> entry : perft.divide(depth, threads).entrySet()) {
+      ReversiCell move = entry.getKey();
+      String cell = args[0].equals("hex")
+              ? "(" + move.getQ() + ", " + move.getR() + ", " + move.getS() + ")"
+              : "(" + move.getX() + ", " + move.getY() + ")";
+      System.out.println(cell + ": " + entry.getValue());
+    }
+    System.out.println("Positions: " + perft.getLeaves());
+    System.out.printf("Positions per second: %.0f%n", perft.getNodesPerSecond());
+  }
+}
@@ -0,0 +1,153 @@
+package cs3500.reversi.tools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.provider.strategy.infallible.AvoidCornerAdjacencyMaxScore;
+import cs3500.reversi.provider.strategy.infallible.CaptureMostPieces;
+import cs3500.reversi.provider.strategy.infallible.OptimizeCornerStratMaxScore;
+import cs3500.reversi.provider.strategy.infallible.PlayCornersMaxScore;
+import cs3500.reversi.strategies.AlphaBetaStrategy;
+import cs3500.reversi.strategies.AvoidNextToCornerStrategy;
+import cs3500.reversi.strategies.CaptureCornersStrategy;
+import cs3500.reversi.strategies.CaptureMostStrategy;
+import cs3500.reversi.strategies.CombinedStrategy;
+import cs3500.reversi.strategies.EndgameStrategy;
+import cs3500.reversi.strategies.HexStrategy;
+import cs3500.reversi.strategies.ProviderStrategyPort;
+import cs3500.reversi.strategies.StrategyAdapter;
+import cs3500.reversi.strategies.TranspositionTable;
+
+/**
+ * Benchmarks how long each strategy takes to choose a move, and how much memory it allocates
+ * doing so, on hex and square games of several sizes, each at the opening, middlegame and
+ * endgame. The provider's strategies and their ports only play on hex grids, so they are only
+ * run on those.
+ *
+ * <p>The alpha-beta search is run to a fixed depth, with its table emptied before every move, so
+ * its time does not depend on the machine. The Monte Carlo and lazy SMP strategies are left out,
+ * they always take the time they are given and run on several threads.
+ */
+public final class StrategyBenchmarks {
+
+  private static final int[] HEX_SIZES = {5, 11, 21};
+  private static final int[] SQUARE_SIZES = {8, 16};
+  /**
+   * The depth the alpha-beta search is run to.
+   */
+  public static final int SEARCH_DEPTH = 3;
+  // time the alpha-beta search may take, far more than a search to SEARCH_DEPTH needs
+  private static final long SEARCH_BUDGET_MILLIS = 60 * 60 * 1000L;
+  // empty cells the endgame strategy solves
+  private static final int ENDGAME_EMPTIES = 10;
+  // moves chosen in a batch, few since a move can take milliseconds
+  private static final int BATCH = 8;
+
+  private StrategyBenchmarks() {
+  }
+
+  /**
+   * Runs the benchmarks whose names contain the given text, or all of them.
+   * @param args optionally the text to pick benchmarks by, then the warm up and measuring time
+   *             of each benchmark in milliseconds, 200 and 1000 if not given
+   */
+  public static void main(String[] args) {
+    String filter = args.length > 0 ? args[0] : "";
+    long warmup = args.length > 1 ? Long.parseLong(args[1]) : 200;
+    long measure = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+    Benchmark benchmark = new Benchmark(warmup, measure);
+
+    List<BenchmarkPosition> positions = new ArrayList<>();
+    positions.addAll(BenchmarkPosition.corpus(true, HEX_SIZES));
+    positions.addAll(BenchmarkPosition.corpus(false, SQUARE_SIZES));
+    for (BenchmarkPosition position : positions) {
+      for (Benchmark.Result result : run(benchmark, position, filter)) {
+        System.out.println(result);
+      }
+    }
+  }
+
+  /**
+   * Runs the benchmarks of one position whose names contain the given text.
+   * @param benchmark the harness to measure with
+   * @param position the position to choose a move in
+   * @param filter the text to pick benchmarks by, empty for all of them
+   * @return the results, in the order they were run
+   */
+  public static List<Benchmark.Result> run(Benchmark benchmark, BenchmarkPosition position,
+                                           String filter) {
+    ReversiModel game = position.newGame();
+    DiscStatus player = game.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+    boolean hex = position.getName().startsWith("hex");
+    TranspositionTable table = new TranspositionTable(1 << 20);
+
+    Map<String, HexStrategy> strategies = new LinkedHashMap<>();
+    strategies.put("CaptureMostStrategy", new CaptureMostStrategy());
+    strategies.put("CaptureCornersStrategy", new CaptureCornersStrategy());
+    strategies.put("AvoidNextToCornerStrategy", new AvoidNextToCornerStrategy());
+    strategies.put("CombinedStrategy", new CombinedStrategy());
+    strategies.put("AlphaBetaStrategy", newSearch(table));
+    strategies.put("EndgameStrategy", new EndgameStrategy(new CombinedStrategy(),
+            ENDGAME_EMPTIES));
+    if (hex) {
+      strategies.put("StrategyAdapter(CaptureMostPieces)",
+              new StrategyAdapter(new CaptureMostPieces()));
+      strategies.put("StrategyAdapter(AvoidCornerAdjacencyMaxScore)",
+              new StrategyAdapter(new AvoidCornerAdjacencyMaxScore()));
+      strategies.put("StrategyAdapter(OptimizeCornerStratMaxScore)",
+              new StrategyAdapter(new OptimizeCornerStratMaxScore()));
+      strategies.put("StrategyAdapter(PlayCornersMaxScore)",
+              new StrategyAdapter(new PlayCornersMaxScore()));
+      strategies.put("ProviderStrategyPort.captureMostPieces",
+              ProviderStrategyPort.captureMostPieces());
+      strategies.put("ProviderStrategyPort.avoidCornerAdjacencyMaxScore",
+              ProviderStrategyPort.avoidCornerAdjacencyMaxScore());
+      strategies.put("ProviderStrategyPort.optimizeCornerStratMaxScore",
+              ProviderStrategyPort.optimizeCornerStratMaxScore());
+      strategies.put("ProviderStrategyPort.playCornersMaxScore",
+              ProviderStrategyPort.playCornersMaxScore());
+    }
+
+    List<Benchmark.Result> results = new ArrayList<>();
+    for (Map.Entry<String, HexStrategy> entry : strategies.entrySet()) {
+      String name = entry.getKey() + " @ " + position.getName();
+      if (name.contains(filter)) {
+        HexStrategy strategy = entry.getValue();
+        if (strategy instanceof AlphaBetaStrategy) {
+          // every search starts from an empty table, so it does the same work every time
+          results.add(benchmark.measure(name, 1, table::clear,
+              i -> choose(strategy, game, player)));
+        } else {
+          results.add(benchmark.measure(name, BATCH, i -> choose(strategy, game, player)));
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Makes the alpha-beta search the benchmarks run, which searches to {@link #SEARCH_DEPTH}
+   * whatever the time it takes.
+   * @param table the table the search keeps its results in
+   * @return the search
+   */
+  public static AlphaBetaStrategy newSearch(TranspositionTable table) {
+    return new AlphaBetaStrategy(SEARCH_BUDGET_MILLIS, SEARCH_DEPTH, table);
+  }
+
+  /**
+   * Chooses a move with the strategy. Strategies meant to be combined with others, such as
+   * playing corners, find no move in most positions, and finding that out is timed the same.
+   */
+  private static Object choose(HexStrategy strategy, ReversiModel game, DiscStatus player) {
+    try {
+      return strategy.chooseHex(game, player);
+    } catch (IllegalAccessException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package cs3500.reversi.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.strategies.HexStrategy;
+import cs3500.reversi.strategies.StrategyFactory;
+
+/**
+ * Plays many games between two computer strategies at once, with no views or controllers, and
+ * counts how each strategy did. Strategies are named as on the command line of the game, see
+ * {@link StrategyFactory}. The strategies take turns playing black, and every game gets its own
+ * model and its own strategies, so games can run on as many threads as there are cores.
+ *
+ * <p>The multi-threaded strategies search on threads of their own, so fewer games are played at
+ * once when one of them is playing. Otherwise the games would fight over the cores, and a
+ * strategy that searches until its time is up would play better or worse depending on how busy
+ * the machine is.
+ */
+public final class Tournament {
+
+  private final String shape;
+  private final int gridSize;
+  private final String first;
+  private final String second;
+  private final int searchThreads;
+  private final long tableBytes;
+
+  // memory of each searching strategy's table, small enough to make one for every game
+  private static final long DEFAULT_TABLE_BYTES = 4L << 20;
+
+  /**
+   * Constructs a tournament between two strategies, the multi-threaded ones searching on every
+   * core of the machine.
+   * @param shape the shape of the grid, "hex" or "square"
+   * @param gridSize the size of the grid
+   * @param first the name of the first strategy, black in the first game
+   * @param second the name of the second strategy
+   * @throws IllegalArgumentException if the shape, size or a strategy name is not known
+   */
+  public Tournament(String shape, int gridSize, String first, String second) {
+    this(shape, gridSize, first, second, Runtime.getRuntime().availableProcessors(),
+            DEFAULT_TABLE_BYTES);
+  }
+
+  /**
+   * Constructs a tournament between two strategies, the multi-threaded ones searching on the
+   * given number of threads, and the searching ones keeping their results in tables of the given
+   * size.
+   * @param shape the shape of the grid, "hex" or "square"
+   * @param gridSize the size of the grid
+   * @param first the name of the first strategy, black in the first game
+   * @param second the name of the second strategy
+   * @param searchThreads the number of threads a multi-threaded strategy searches on
+   * @param tableBytes the memory of a searching strategy's table, in bytes
+   * @throws IllegalArgumentException if the shape, size or a strategy name is not known, there
+   *                                  are no search threads, or the table is too small
+   */
+  public Tournament(String shape, int gridSize, String first, String second, int searchThreads,
+                    long tableBytes) {
+    this.shape = shape;
+    this.gridSize = gridSize;
+    this.first = first;
+    this.second = second;
+    this.searchThreads = searchThreads;
+    this.tableBytes = tableBytes;
+    // fail now rather than on every game
+    this.newGame();
+    this.newStrategy(first);
+    this.newStrategy(second);
+  }
+
+  /**
+   * Plays the given number of games. With a multi-threaded strategy playing, every game takes as
+   * many of the threads as the strategy searches on, so fewer games are played at once.
+   * @param games the number of games to play
+   * @param threads the number of threads to play on, one game at a time at least
+   * @return the counts of the games, from the first strategy's side
+   * @throws IllegalArgumentException if there are no games or no threads
+   * @throws IllegalStateException if a strategy makes an illegal move
+   */
+  public Result play(int games, int threads) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Tournament needs at least 1 game.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Tournament needs at least 1 thread.");
+    }
+    List<Callable<Integer>> tasks = new ArrayList<>();
+    for (int i = 0; i < games; i++) {
+      boolean firstIsBlack = i % 2 == 0;
+      tasks.add(() -> this.playGame(firstIsBlack));
+    }
+
+    long start = System.nanoTime();
+    int wins = 0;
+    int draws = 0;
+    long lead = 0;
+    int gamesAtOnce = threads;
+    if (StrategyFactory.isMultiThreaded(this.first)
+            || StrategyFactory.isMultiThreaded(this.second)) {
+      gamesAtOnce = Math.max(1, threads / this.searchThreads);
+    }
+    ExecutorService pool = Executors.newFixedThreadPool(gamesAtOnce);
+    try {
+      for (Future<Integer> result : pool.invokeAll(tasks)) {
+        int gameLead = result.get();
+        lead += gameLead;
+        if (gameLead > 0) {
+          wins++;
+        } else if (gameLead == 0) {
+          draws++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Game failed.", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+    return new Result(wins, draws, games - wins - draws, (double) lead / games,
+            games * 1e9 / Math.max(elapsed, 1));
+  }
+
+  /**
+   * Plays one game to the end. A player passes when it has no legal move, or when its strategy
+   * finds none, like in a game on screen.
+   * @return the first strategy's discs minus the second's at the end of the game
+   */
+  private int playGame(boolean firstIsBlack) {
+    ReversiModel game = this.newGame();
+    HexStrategy black = this.newStrategy(firstIsBlack ? this.first : this.second);
+    HexStrategy white = this.newStrategy(firstIsBlack ? this.second : this.first);
+    game.setup();
+    while (!game.isGameOver()) {
+      DiscStatus player = game.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+      if (game.getPossibleMoves().isEmpty()) {
+        game.pass(player);
+        continue;
+      }
+      ReversiCell move;
+      try {
+        move = (game.isBlackTurn() ? black : white).chooseHex(game, player);
+      } catch (IllegalAccessException e) {
+        game.pass(player);
+        continue;
+      }
+      game.placeDisc(player, move);
+    }
+    int blackLead = game.getBlackScore() - game.getWhiteScore();
+    return firstIsBlack ? blackLead : -blackLead;
+  }
+
+  /**
+   * Makes a new strategy with the given name, with this tournament's threads and table size.
+   */
+  private HexStrategy newStrategy(String name) {
+    return StrategyFactory.create(name, this.searchThreads, this.tableBytes);
+  }
+
+  /**
+   * Makes a new game of this tournament's shape and size, not yet set up.
+   */
+  private ReversiModel newGame() {
+    switch (this.shape) {
+      case "square":
+        return new SquareReversi(this.gridSize);
+      case "hex":
+        return new HexReversi(this.gridSize);
+      default:
+        throw new IllegalArgumentException("cannot handle this type of reversi game");
+    }
+  }
+
+  /**
+   * How the first strategy of a tournament did against the second.
+   */
+  public static final class Result {
+    private final int wins;
+    private final int draws;
+    private final int losses;
+    private final double averageLead;
+    private final double gamesPerSecond;
+
+    private Result(int wins, int draws, int losses, double averageLead, double gamesPerSecond) {
+      this.wins = wins;
+      this.draws = draws;
+      this.losses = losses;
+      this.averageLead = averageLead;
+      this.gamesPerSecond = gamesPerSecond;
+    }
+
+    /**
+     * Gets the number of games the first strategy won.
+     * @return the number of wins
+     */
+    public int getWins() {
+      return this.wins;
+    }
+
+    /**
+     * Gets the number of games that were tied.
+     * @return the number of draws
+     */
+    public int getDraws() {
+      return this.draws;
+    }
+
+    /**
+     * Gets the number of games the first strategy lost.
+     * @return the number of losses
+     */
+    public int getLosses() {
+      return this.losses;
+    }
+
+    /**
+     * Gets the first strategy's discs minus the second's at the end of a game, on average.
+     * @return the average disc differential
+     */
+    public double getAverageLead() {
+      return this.averageLead;
+    }
+
+    /**
+     * Gets how many games a second were played.
+     * @return the number of games per second
+     */
+    public double getGamesPerSecond() {
+      return this.gamesPerSecond;
+    }
+
+    /**
+     * Formats the result as a short report, one count per line.
+     * @return the report
+     */
+    @Override
+    public String toString() {
+      return String.format("Wins: %d%nDraws: %d%nLosses: %d%nAverage disc differential: %.2f%n"
+              + "Games per second: %.1f", this.wins, this.draws, this.losses, this.averageLead,
+              this.gamesPerSecond);
+    }
+  }
+
+  /**
+   * Plays a tournament from the command line and prints the result, from the first strategy's
+   * side.
+   * @param args the shape of the grid, "hex" or "square", its size, the names of the two
+   *             strategies, the number of games, and optionally the number of threads to play
+   *             on and the number a multi-threaded strategy searches on, every core of the
+   *             machine for both if not given
+   */
+  public static void main(String[] args) {
+    if (args.length < 5 || args.length > 7) {
+      throw new IllegalArgumentException("Usage: hex|square size firstStrategy secondStrategy "
+              + "games [threads [searchThreads]]");
+    }
+    int cores = Runtime.getRuntime().availableProcessors();
+    int games = Integer.parseInt(args[4]);
+    int threads = args.length >= 6 ? Integer.parseInt(args[5]) : cores;
+    int searchThreads = args.length == 7 ? Integer.parseInt(args[6]) : cores;
+    Tournament tournament = new Tournament(args[0], Integer.parseInt(args[1]), args[2], args[3],
+            searchThreads, DEFAULT_TABLE_BYTES);
+    System.out.println(args[2] + " vs " + args[3] + ", " + games + " games");
+    System.out.println(tournament.play(games, threads));
+  }
+}
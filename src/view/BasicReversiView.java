@@ -1,6 +1,8 @@
 package cs3500.reversi.view;
 
 import java.awt.Point;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.KeyStroke;
@@ -128,4 +130,16 @@ public class BasicReversiView extends JFrame implements ReversiView {
     this.setLocationRelativeTo(getComponentAt(new Point(0,0)));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addCloseListener(Runnable onClose) {
+    this.addWindowListener(new WindowAdapter() {
+      @Override
+      public void windowClosing(WindowEvent e) {
+        onClose.run();
+      }
+    });
+  }
 }
@@ -14,7 +14,6 @@ import java.util.List;
 import java.util.Map;
 import cs3500.reversi.controller.InputFeatures;
 import cs3500.reversi.model.DiscStatus;
-import cs3500.reversi.model.Hex;
 import javax.swing.AbstractAction;
 import cs3500.reversi.model.ReadOnlyReversi;
 import cs3500.reversi.model.ReversiCell;
@@ -84,11 +83,7 @@ public class JHexHintsReversiPanel extends JReversiPanel {
       movesAndScores.put(h, currHexScore);
     }
 
-    int newQ = this.getCurrHexSelection().getQ();
-    int newR = this.getCurrHexSelection().getR();
-    int newS = this.getCurrHexSelection().getS();
-
-    int result = movesAndScores.get(new Hex(newQ, newR, newS));
+    int result = movesAndScores.get(this.currHexSelection);
 
     return String.valueOf(result);
   }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 
 import cs3500.reversi.controller.InputFeatures;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.Hex;
 
 import javax.swing.JPanel;
@@ -105,22 +106,19 @@ public class JReversiPanel extends JPanel {
     Rectangle bounds = this.getBounds();
     g2d.fill(bounds);
     g2d.transform(transformHexToPixel());
-    int coord = (int) Math.floor(model.getGridSize() / 2);
-    for (int q = -coord; q <= coord; q++) {
-      for (int r = -coord; r <= coord; r++) {
-        for (int s = -coord; s <= coord; s++) {
-          if (q + r + s == 0) {
-            this.drawHex(g2d, q, r, this.currHexSelection.equals(new Hex(q, r, s))
-                    && !this.alreadySelected);
-          }
-        }
-      }
+    CellRegistry hexes = CellRegistry.forHex(model.getGridSize());
+    for (int i = 0; i < hexes.getCellCount(); i++) {
+      ReversiCell hex = hexes.getCell(i);
+      this.drawHex(g2d, hex.getQ(), hex.getR(), this.currHexSelection.equals(hex)
+              && !this.alreadySelected);
     }
   }
 
   protected void drawHex(Graphics2D g2d, double q, double r, boolean selected) {
     this.drawHexagon(g2d, q, r, selected);
-    switch (model.getStatus(new Hex((int) q, (int) r, (int) (-q - r)))) {
+    ReversiCell hex = CellRegistry.forHex(model.getGridSize())
+            .getHex((int) q, (int) r, (int) (-q - r));
+    switch (model.getStatus(hex)) {
       case White:
         this.drawCircle(g2d, Color.WHITE, q, r);
 
@@ -21,6 +21,7 @@ import javax.swing.JPanel;
 import javax.swing.AbstractAction;
 import javax.swing.event.MouseInputAdapter;
 import cs3500.reversi.controller.InputFeatures;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.ReadOnlyReversi;
 import cs3500.reversi.model.ReversiCell;
 import cs3500.reversi.model.Square;
@@ -82,17 +83,18 @@ public class JSquareReversiPanel extends JPanel {
     Rectangle bounds = this.getBounds();
     g2d.fill(bounds);
     g2d.transform(transformSquareToPixel());
-    for (int x = 0; x < model.getGridSize(); x++) {
-      for (int y = 0; y < model.getGridSize(); y++) {
-        this.drawSquareCell(g2d, x, y, this.currSquareSelection.equals(new Square(x, y))
-                && !this.alreadySelected);
-      }
+    CellRegistry squares = CellRegistry.forSquare(model.getGridSize());
+    for (int i = 0; i < squares.getCellCount(); i++) {
+      ReversiCell square = squares.getCell(i);
+      this.drawSquareCell(g2d, square.getX(), square.getY(),
+              this.currSquareSelection.equals(square) && !this.alreadySelected);
     }
   }
 
   protected void drawSquareCell(Graphics2D g2d, double x, double y, boolean selected) {
     this.drawSquare(g2d, x, y, selected);
-    switch (model.getStatus(new Square((int) x, (int) y))) {
+    switch (model.getStatus(CellRegistry.forSquare(model.getGridSize())
+            .getSquare((int) x, (int) y))) {
       case White:
         this.drawCircle(g2d, Color.WHITE, x, y);
         break;
@@ -2,7 +2,7 @@ package cs3500.reversi.view;
 
 import java.util.Objects;
 
-import cs3500.reversi.model.Hex;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.ReversiModel;
 
 /**
@@ -46,7 +46,7 @@ public class ReversiTextualView implements TextualView {
    */
   private String statusString(int q, int r, int s) {
 
-    switch (model.getStatus(new Hex(q, r, s))) {
+    switch (model.getStatus(CellRegistry.forHex(model.getGridSize()).getHex(q, r, s))) {
 
       case White:
         return "O ";
@@ -81,4 +81,11 @@ public interface ReversiView {
    * @param selectedHex The selected hex
    */
   void setCurrCellSelection(ReversiCell selectedHex);
+
+  /**
+   * Runs the given action when the window is closed, so whatever is still working for the game
+   * can be stopped.
+   * @param onClose the action to run
+   */
+  void addCloseListener(Runnable onClose);
 }
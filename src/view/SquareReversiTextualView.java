@@ -1,8 +1,8 @@
 package cs3500.reversi.view;
 
 import java.util.Objects;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.ReversiModel;
-import cs3500.reversi.model.Square;
 
 /**
  * Textual View for of a square reversi game, displays grid in text.
@@ -43,7 +43,7 @@ public class SquareReversiTextualView implements TextualView {
 
   private String statusString(int x, int y) {
 
-    switch (model.getStatus(new Square(x, y))) {
+    switch (model.getStatus(CellRegistry.forSquare(model.getGridSize()).getSquare(x, y))) {
 
       case White:
         return "O ";
@@ -3,6 +3,8 @@ package cs3500.reversi.view;
 import cs3500.reversi.controller.InputFeatures;
 import cs3500.reversi.model.ReadOnlyReversi;
 import java.awt.Point;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.KeyStroke;
@@ -130,5 +132,17 @@ public class SquareReversiView extends JFrame implements ReversiView {
     this.setLocationRelativeTo(getComponentAt(new Point(0, 0)));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addCloseListener(Runnable onClose) {
+    this.addWindowListener(new WindowAdapter() {
+      @Override
+      public void windowClosing(WindowEvent e) {
+        onClose.run();
+      }
+    });
+  }
 }
 
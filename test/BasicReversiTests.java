@@ -2,13 +2,25 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import cs3500.reversi.controller.ModelListener;
+import cs3500.reversi.model.BoardTopology;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.Hex;
+import cs3500.reversi.model.HexArrayGrid;
+import cs3500.reversi.model.HexGrid;
 import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.RayTable;
+import cs3500.reversi.model.ReversiCell;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.view.TextualView;
 import cs3500.reversi.view.ReversiTextualView;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * The class meant to represent all our BasicReversi Model and Textual View tests.
  */
@@ -634,6 +646,335 @@ public class BasicReversiTests {
             "     _ _ _ _ _ _ \n");
   }
 
+  //cell registry tests
+
+  @Test
+  public void testEqualHexesHaveEqualHashes() {
+    Assert.assertEquals(new Hex(2, -1, -1).hashCode(), new Hex(2, -1, -1).hashCode());
+    Assert.assertNotEquals(new Hex(2, -1, -1).hashCode(), new Hex(-1, 2, -1).hashCode());
+  }
+
+  @Test
+  public void testRegistryGivesSameHexEveryTime() {
+    CellRegistry hexes = CellRegistry.forHex(5);
+    Assert.assertSame(hexes, CellRegistry.forHex(5));
+    Assert.assertSame(hexes.getHex(1, -2, 1), hexes.getHex(1, -2, 1));
+    Assert.assertEquals(new Hex(1, -2, 1), hexes.getHex(1, -2, 1));
+    Assert.assertNull(hexes.getHex(3, -3, 0));
+    Assert.assertEquals(19, hexes.getCellCount());
+  }
+
+  @Test
+  public void testPossibleMovesAreRegistryHexes() {
+    init();
+    model5.setup();
+    CellRegistry hexes = CellRegistry.forHex(5);
+    for (int i = 0; i < model5.getPossibleMoves().size(); i++) {
+      Hex move = (Hex) model5.getPossibleMoves().get(i);
+      Assert.assertSame(hexes.getHex(move.getQ(), move.getR(), move.getS()), move);
+    }
+  }
+
+  //move analysis tests
+
+  @Test
+  public void testAnalyzeThenPlaceMove() {
+    init();
+    model5.setup();
+    MoveAnalysis move = model5.analyzeMove(new Hex(2, -1, -1));
+    Assert.assertTrue(move.isLegal());
+    Assert.assertEquals(1, move.getTotalFlips());
+    Assert.assertEquals(DiscStatus.Black, move.getPlayer());
+    model5.placeDisc(DiscStatus.Black, move);
+    Assert.assertEquals(model5.getStatus(new Hex(2, -1, -1)), DiscStatus.Black);
+    Assert.assertEquals(model5.getStatus(new Hex(1, -1, 0)), DiscStatus.Black);
+    Assert.assertFalse(model5.isBlackTurn());
+  }
+
+  @Test
+  public void testAnalyzeIllegalMove() {
+    init();
+    model5.setup();
+    MoveAnalysis move = model5.analyzeMove(new Hex(0, -2, 2));
+    Assert.assertFalse(move.isLegal());
+    Assert.assertEquals(0, move.getTotalFlips());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceOutdatedAnalysis() {
+    init();
+    model5.setup();
+    MoveAnalysis move = model5.analyzeMove(new Hex(-2, 1, 1));
+    model5.placeDisc(DiscStatus.Black, new Hex(2, -1, -1));
+    model5.pass(DiscStatus.White);
+    model5.placeDisc(DiscStatus.Black, move);
+  }
+
+  @Test
+  public void testRayGoesToEdgeOfGrid() {
+    CellRegistry hexes = CellRegistry.forHex(5);
+    RayTable rays = RayTable.forRegistry(hexes);
+    int corner = hexes.getHexIndex(-2, 0, 2);
+    // right from the left corner crosses the whole grid, left goes nowhere
+    int[] right = rays.getRay(corner, 1);
+    Assert.assertEquals(4, right.length);
+    Assert.assertEquals(new Hex(-1, 0, 1), hexes.getCell(right[0]));
+    Assert.assertEquals(new Hex(2, 0, -2), hexes.getCell(right[3]));
+    Assert.assertEquals(0, rays.getRay(corner, 4).length);
+  }
+
+  @Test
+  public void testTopologyClassifiesHexes() {
+    CellRegistry hexes = CellRegistry.forHex(5);
+    BoardTopology topology = BoardTopology.forRegistry(hexes);
+    Assert.assertSame(topology, BoardTopology.forRegistry(CellRegistry.forHex(5)));
+    int[] corners = topology.getCorners();
+    Assert.assertEquals(6, corners.length);
+    Assert.assertEquals(new Hex(0, -2, 2), hexes.getCell(corners[0]));
+    Assert.assertEquals(new Hex(2, -2, 0), hexes.getCell(corners[1]));
+    Assert.assertEquals(new Hex(-2, 0, 2), hexes.getCell(corners[2]));
+    Assert.assertEquals(new Hex(0, 2, -2), hexes.getCell(corners[5]));
+    Assert.assertTrue(topology.isCorner(hexes.getHexIndex(2, 0, -2)));
+    Assert.assertFalse(topology.isNextToCorner(hexes.getHexIndex(2, 0, -2)));
+    // the middle row's corners are not row corners
+    Assert.assertTrue(topology.isRowCorner(corners[0]));
+    Assert.assertFalse(topology.isRowCorner(hexes.getHexIndex(2, 0, -2)));
+    Assert.assertTrue(topology.isNextToCorner(hexes.getHexIndex(1, 0, -1)));
+    Assert.assertFalse(topology.isNextToRowCorner(hexes.getHexIndex(1, 0, -1)));
+    Assert.assertTrue(topology.isNextToRowCorner(hexes.getHexIndex(0, -1, 1)));
+    Assert.assertTrue(topology.isNextToCorner(hexes.getHexIndex(1, -2, 1)));
+    Assert.assertTrue(topology.isEdge(hexes.getHexIndex(1, -2, 1)));
+    Assert.assertTrue(topology.isNextToCorner(hexes.getHexIndex(0, -1, 1)));
+    Assert.assertFalse(topology.isEdge(hexes.getHexIndex(0, -1, 1)));
+    int center = hexes.getHexIndex(0, 0, 0);
+    Assert.assertFalse(topology.isCorner(center) || topology.isNextToCorner(center)
+            || topology.isEdge(center));
+    int edges = 0;
+    for (int i = 0; i < topology.getCellCount(); i++) {
+      edges += topology.isEdge(i) ? 1 : 0;
+    }
+    Assert.assertEquals(12, edges);
+  }
+
+  @Test
+  public void testTopologySymmetriesKeepTheBoard() {
+    BoardTopology topology = BoardTopology.forRegistry(CellRegistry.forHex(7));
+    Assert.assertEquals(12, topology.getSymmetryCount());
+    for (int i = 0; i < topology.getCellCount(); i++) {
+      Assert.assertEquals(i, topology.getSymmetry(0)[i]);
+    }
+    for (int k = 0; k < topology.getSymmetryCount(); k++) {
+      int[] symmetry = topology.getSymmetry(k);
+      boolean[] hit = new boolean[topology.getCellCount()];
+      for (int i = 0; i < symmetry.length; i++) {
+        Assert.assertFalse(hit[symmetry[i]]);
+        hit[symmetry[i]] = true;
+        Assert.assertEquals(topology.isCorner(i), topology.isCorner(symmetry[i]));
+        Assert.assertEquals(topology.isNextToCorner(i), topology.isNextToCorner(symmetry[i]));
+        Assert.assertEquals(topology.isEdge(i), topology.isEdge(symmetry[i]));
+        for (int d = 0; d < topology.getDirectionCount(); d++) {
+          int neighbor = topology.getNeighbor(i, d);
+          if (neighbor >= 0) {
+            boolean stillNeighbors = false;
+            for (int e = 0; e < topology.getDirectionCount(); e++) {
+              stillNeighbors |= topology.getNeighbor(symmetry[i], e) == symmetry[neighbor];
+            }
+            Assert.assertTrue(stillNeighbors);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testScoresMatchDiscsOnGrid() {
+    init();
+    model7.setup();
+    CellRegistry hexes = CellRegistry.forHex(7);
+    for (int turn = 0; turn < 20 && !model7.isGameOver(); turn++) {
+      int black = 0;
+      int white = 0;
+      for (int i = 0; i < hexes.getCellCount(); i++) {
+        DiscStatus status = model7.getStatus(hexes.getCell(i));
+        black += status == DiscStatus.Black ? 1 : 0;
+        white += status == DiscStatus.White ? 1 : 0;
+      }
+      Assert.assertEquals(black, model7.getBlackScore());
+      Assert.assertEquals(white, model7.getWhiteScore());
+      List<ReversiCell> moves = model7.getPossibleMoves();
+      DiscStatus player = model7.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+      if (moves.isEmpty()) {
+        model7.pass(player);
+      } else {
+        model7.placeDisc(player, moves.get(moves.size() - 1));
+      }
+    }
+  }
+
+  @Test
+  public void testUndoMovesPutsGameBack() {
+    init();
+    model7.setup();
+    List<Map<ReversiCell, DiscStatus>> grids = new ArrayList<>();
+    List<Boolean> turns = new ArrayList<>();
+    for (int turn = 0; turn < 15; turn++) {
+      grids.add(model7.getCopyOfGrid());
+      turns.add(model7.isBlackTurn());
+      List<ReversiCell> moves = model7.getPossibleMoves();
+      if (moves.isEmpty()) {
+        model7.doPass();
+      } else {
+        model7.doMove(moves.get(turn % moves.size()));
+      }
+    }
+    for (int turn = 14; turn >= 0; turn--) {
+      model7.undoMove();
+      Assert.assertEquals(grids.get(turn), model7.getCopyOfGrid());
+      Assert.assertEquals(turns.get(turn), model7.isBlackTurn());
+    }
+    Assert.assertEquals(3, model7.getBlackScore());
+    Assert.assertEquals(3, model7.getWhiteScore());
+    Assert.assertTrue(model7.isMoveLegalAt(new Hex(-2, 1, 1)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUndoPlacedDisc() {
+    init();
+    model5.setup();
+    model5.doMove(new Hex(-2, 1, 1));
+    model5.placeDisc(DiscStatus.White, model5.getPossibleMoves().get(0));
+    model5.undoMove();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoIllegalMove() {
+    init();
+    model5.setup();
+    model5.doMove(new Hex(2, 0, -2));
+  }
+
+  @Test
+  public void testPositionHashFollowsPosition() {
+    init();
+    model5.setup();
+    ReversiModel other = new HexReversi(5);
+    other.setup();
+    long start = model5.getPositionHash();
+    Assert.assertEquals(start, other.getPositionHash());
+
+    model5.placeDisc(DiscStatus.Black, new Hex(-2, 1, 1));
+    Assert.assertNotEquals(start, model5.getPositionHash());
+    other.doMove(new Hex(-2, 1, 1));
+    Assert.assertEquals(model5.getPositionHash(), other.getPositionHash());
 
+    // same discs with the other player to move is another position
+    long blackMoved = other.getPositionHash();
+    other.doPass();
+    Assert.assertNotEquals(blackMoved, other.getPositionHash());
+    other.undoMove();
+    other.undoMove();
+    Assert.assertEquals(start, other.getPositionHash());
+  }
 
+  @Test
+  public void testPossibleMovesStayUpToDate() {
+    init();
+    model7.setup();
+    CellRegistry hexes = CellRegistry.forHex(7);
+    // play the first possible move every turn, the kept moves must match analyzing every hex
+    for (int turn = 0; turn < 20 && !model7.isGameOver(); turn++) {
+      List<ReversiCell> moves = model7.getPossibleMoves();
+      for (int i = 0; i < hexes.getCellCount(); i++) {
+        ReversiCell hex = hexes.getCell(i);
+        boolean legal = model7.getStatus(hex) == DiscStatus.Empty
+                && model7.analyzeMove(hex).isLegal();
+        Assert.assertEquals(legal, moves.contains(hex));
+        Assert.assertEquals(legal, model7.isMoveLegalAt(hex));
+      }
+      DiscStatus player = model7.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+      if (moves.isEmpty()) {
+        model7.pass(player);
+      } else {
+        model7.placeDisc(player, moves.get(0));
+      }
+    }
+  }
+
+
+
+
+  @Test
+  public void testComputerGameRunsInLoop() {
+    HexReversi game = new HexReversi(21);
+    FirstMoveListener black = new FirstMoveListener(game, DiscStatus.Black);
+    FirstMoveListener white = new FirstMoveListener(game, DiscStatus.White);
+    game.addFeatures(black);
+    game.addFeatures(white);
+    game.setup();
+    game.startGame();
+
+    Assert.assertTrue(game.isGameOver());
+    Assert.assertTrue(black.turns + white.turns > 100);
+    // every turn starts at the same depth instead of inside the turn before it
+    Assert.assertEquals(black.minDepth, black.maxDepth);
+    Assert.assertEquals(black.minDepth, white.maxDepth);
+  }
+
+  @Test
+  public void testArrayGridPlaysLikeMapGrid() {
+    // the map grid is the original, so the array grid has to match it move for move
+    for (int size : new int[] {3, 5, 7, 11}) {
+      for (long seed = 0; seed < 25; seed++) {
+        DifferentialGame.play(new HexReversi(size, new HexGrid(size), 0, true, true),
+                new HexReversi(size, new HexArrayGrid(size), 0, true, true), seed);
+      }
+    }
+  }
+
+  /**
+   * Listens to a game as a computer player that always plays its first legal move, and keeps
+   * track of how deep in the stack its turns run.
+   */
+  private static final class FirstMoveListener implements ModelListener {
+    private final HexReversi game;
+    private final DiscStatus color;
+    private int turns;
+    private int minDepth = Integer.MAX_VALUE;
+    private int maxDepth;
+
+    private FirstMoveListener(HexReversi game, DiscStatus color) {
+      this.game = game;
+      this.color = color;
+    }
+
+    @Override
+    public void play(boolean blackTurn) {
+      if (game.isGameOver() || blackTurn != (color == DiscStatus.Black)) {
+        return;
+      }
+      int depth = Thread.currentThread().getStackTrace().length;
+      minDepth = Math.min(minDepth, depth);
+      maxDepth = Math.max(maxDepth, depth);
+      turns++;
+      List<ReversiCell> moves = game.getPossibleMoves();
+      if (moves.isEmpty()) {
+        game.pass(color);
+      } else {
+        game.placeDisc(color, moves.get(0));
+      }
+      if (!game.isGameOver()) {
+        game.switchController(blackTurn);
+      }
+    }
+
+    @Override
+    public void repaint() {
+      // nothing to show
+    }
+
+    @Override
+    public void end() {
+      // nothing to show
+    }
+  }
 }
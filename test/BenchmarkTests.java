@@ -0,0 +1,97 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.strategies.AlphaBetaStrategy;
+import cs3500.reversi.strategies.TranspositionTable;
+import cs3500.reversi.tools.Benchmark;
+import cs3500.reversi.tools.BenchmarkPosition;
+import cs3500.reversi.tools.ModelBenchmarks;
+import cs3500.reversi.tools.StrategyBenchmarks;
+
+/**
+ * Tests for the benchmark harness and the positions benchmarks run on.
+ */
+public class BenchmarkTests {
+
+  @Test
+  public void testPositionsAreTheSameEveryTime() {
+    ReversiModel first = BenchmarkPosition.hex(11, BenchmarkPosition.Phase.MIDDLEGAME).newGame();
+    ReversiModel second = BenchmarkPosition.hex(11, BenchmarkPosition.Phase.MIDDLEGAME).newGame();
+    Assert.assertEquals(first.getCopyOfGrid(), second.getCopyOfGrid());
+    Assert.assertEquals(first.isBlackTurn(), second.isBlackTurn());
+  }
+
+  @Test
+  public void testPositionsGetFurtherIntoGame() {
+    List<BenchmarkPosition> corpus = BenchmarkPosition.corpus(true, 7);
+    Assert.assertEquals(3, corpus.size());
+    int discs = 0;
+    for (BenchmarkPosition position : corpus) {
+      ReversiModel game = position.newGame();
+      Assert.assertFalse(game.getPossibleMoves().isEmpty());
+      Assert.assertTrue(game.getBlackScore() + game.getWhiteScore() >= discs);
+      discs = game.getBlackScore() + game.getWhiteScore();
+    }
+    Assert.assertEquals("hex 7 endgame", corpus.get(2).getName());
+  }
+
+  @Test
+  public void squareTestPositionsUseUsualGrid() {
+    BenchmarkPosition position = BenchmarkPosition.square(8, BenchmarkPosition.Phase.ENDGAME);
+    ReversiModel game = position.newGame();
+    Assert.assertEquals(64, position.getCells().size());
+    Assert.assertFalse(game.getPossibleMoves().isEmpty());
+    Assert.assertEquals(game.getCopyOfGrid(), position.newGame().getCopyOfGrid());
+  }
+
+  @Test
+  public void testBenchmarkMeasuresRuns() {
+    Benchmark benchmark = new Benchmark(0, 5);
+    Benchmark.Result result = benchmark.measure("nothing", i -> Boolean.TRUE);
+    Assert.assertEquals("nothing", result.getName());
+    Assert.assertTrue(result.getRuns() > 0);
+    Assert.assertTrue(result.getNanosPerRun() >= 0);
+    Assert.assertTrue(result.toString().startsWith("nothing"));
+  }
+
+  @Test
+  public void testModelBenchmarksFilterByName() {
+    Benchmark benchmark = new Benchmark(0, 1);
+    BenchmarkPosition position = BenchmarkPosition.hex(5, BenchmarkPosition.Phase.OPENING);
+    List<Benchmark.Result> results = ModelBenchmarks.run(benchmark, position, "placeDisc");
+    Assert.assertEquals(1, results.size());
+    Assert.assertEquals("placeDisc @ hex 5 opening", results.get(0).getName());
+    Assert.assertEquals(6, ModelBenchmarks.run(benchmark, position, "").size());
+  }
+
+  @Test
+  public void testStrategyBenchmarksCoverProviderOnHex() {
+    Benchmark benchmark = new Benchmark(0, 1);
+    BenchmarkPosition hex = BenchmarkPosition.hex(5, BenchmarkPosition.Phase.MIDDLEGAME);
+    BenchmarkPosition square = BenchmarkPosition.square(8, BenchmarkPosition.Phase.MIDDLEGAME);
+    Assert.assertEquals(4, StrategyBenchmarks.run(benchmark, hex, "StrategyAdapter").size());
+    Assert.assertEquals(0, StrategyBenchmarks.run(benchmark, square, "StrategyAdapter").size());
+    Assert.assertEquals(6, StrategyBenchmarks.run(benchmark, square, "").size());
+  }
+
+  @Test
+  public void squareTestStrategyBenchmarksSearchToFullDepth() throws IllegalAccessException {
+    // the biggest position, where a search cut short by the clock would show first
+    ReversiModel game = BenchmarkPosition.square(16, BenchmarkPosition.Phase.MIDDLEGAME)
+            .newGame();
+    AlphaBetaStrategy search = StrategyBenchmarks.newSearch(new TranspositionTable(1 << 20));
+    DiscStatus player = game.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+    Assert.assertTrue(game.isMoveLegalAt(search.chooseHex(game, player)));
+    Assert.assertEquals(StrategyBenchmarks.SEARCH_DEPTH, search.getCompletedDepth());
+    Assert.assertTrue(search.getNodes() > 1024);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBenchmarkNeedsTimeToMeasure() {
+    new Benchmark(10, 0);
+  }
+}
@@ -0,0 +1,71 @@
+import org.junit.Assert;
+
+import java.util.List;
+import java.util.Random;
+
+import cs3500.reversi.model.DiscStatus;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.ReversiModel;
+
+/**
+ * Plays random games on two models that should behave the same, such as the same game on two
+ * kinds of grid, and checks that they never disagree.
+ */
+public final class DifferentialGame {
+
+  private DifferentialGame() {
+  }
+
+  /**
+   * Plays the same random game on both models, mixing placed moves, searched moves, undos and
+   * passes, and checks after every step that they agree on the whole position.
+   */
+  public static void play(ReversiModel expected, ReversiModel actual, long seed) {
+    Random random = new Random(seed);
+    expected.setup();
+    actual.setup();
+    assertSameGame(expected, actual);
+    int undoable = 0;
+    for (int step = 0; step < 500 && !expected.isGameOver(); step++) {
+      DiscStatus player = expected.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+      List<ReversiCell> moves = expected.getPossibleMoves();
+      if (undoable > 0 && random.nextInt(4) == 0) {
+        expected.undoMove();
+        actual.undoMove();
+        undoable--;
+      } else if (moves.isEmpty()) {
+        expected.pass(player);
+        actual.pass(player);
+        undoable = 0;
+      } else if (random.nextBoolean()) {
+        ReversiCell move = moves.get(random.nextInt(moves.size()));
+        expected.placeDisc(player, move);
+        actual.placeDisc(player, move);
+        undoable = 0;
+      } else {
+        ReversiCell move = moves.get(random.nextInt(moves.size()));
+        expected.doMove(move);
+        actual.doMove(move);
+        undoable++;
+      }
+      assertSameGame(expected, actual);
+    }
+    Assert.assertTrue(expected.isGameOver());
+  }
+
+  /**
+   * Checks that two models hold the same position.
+   */
+  public static void assertSameGame(ReversiModel expected, ReversiModel actual) {
+    Assert.assertEquals(expected.getCopyOfGrid(), actual.getCopyOfGrid());
+    Assert.assertEquals(expected.getBlackScore(), actual.getBlackScore());
+    Assert.assertEquals(expected.getWhiteScore(), actual.getWhiteScore());
+    Assert.assertEquals(expected.isBlackTurn(), actual.isBlackTurn());
+    Assert.assertEquals(expected.isGameOver(), actual.isGameOver());
+    if (!expected.isGameOver()) {
+      // there are no moves to ask for once the game is over
+      Assert.assertEquals(expected.getPossibleMoves(), actual.getPossibleMoves());
+    }
+    Assert.assertEquals(expected.getPositionHash(), actual.getPositionHash());
+  }
+}
@@ -126,5 +126,11 @@ public class MockSquareReversiView extends JFrame implements ReversiView {
     super.repaint();
   }
 
-
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addCloseListener(Runnable onClose) {
+    // not needed
+  }
 }
@@ -0,0 +1,81 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.ReversiCell;
+import cs3500.reversi.model.SquareGrid;
+import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.tools.Perft;
+
+/**
+ * Tests for counting the positions a game can reach, and that every grid reaches the same ones.
+ */
+public class PerftTests {
+
+  @Test
+  public void squareTestPerftMatchesKnownCounts() {
+    Perft perft = Perft.forSquare(8);
+    long[] known = {1, 4, 12, 56, 244, 1396, 8200};
+    for (int depth = 0; depth < known.length; depth++) {
+      Assert.assertEquals(known[depth], perft.count(depth));
+    }
+    Assert.assertEquals(8200, perft.getLeaves());
+    Assert.assertTrue(perft.getNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void squareTestGridsCountTheSame() {
+    Perft bitboard = Perft.forSquare(8);
+    Perft squareGrid = new Perft(() -> new SquareReversi(8, new SquareGrid(8), 0, true, true));
+    Assert.assertEquals(bitboard.count(6), squareGrid.count(6));
+  }
+
+  @Test
+  public void squareTestCountsPassesAndGameEnd() {
+    // every 4x4 game is over within 16 moves counting passes, and there are 60060 of them
+    Perft perft = Perft.forSquare(4);
+    Assert.assertEquals(60060, perft.count(16));
+    Assert.assertEquals(60060, perft.count(24));
+  }
+
+  @Test
+  public void testGridsCountTheSame() {
+    Perft arrayGrid = Perft.forHex(7);
+    Perft hexGrid = new Perft(() -> new HexReversi(7, new HexGrid(7), 0, true, true));
+    for (int depth = 0; depth <= 5; depth++) {
+      Assert.assertEquals(arrayGrid.count(depth), hexGrid.count(depth));
+    }
+  }
+
+  @Test
+  public void testDivideAddsUpToCount() {
+    Perft perft = Perft.forHex(7);
+    long total = perft.count(5);
+    Map<ReversiCell, Long> divided = perft.divide(5, 3);
+    Assert.assertEquals(6, divided.size());
+    long sum = 0;
+    for (long count : divided.values()) {
+      sum += count;
+    }
+    Assert.assertEquals(total, sum);
+    Assert.assertEquals(total, perft.getLeaves());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPerftEvenHexSize() {
+    Perft.forHex(6);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void squareTestPerftOddSquareSize() {
+    Perft.forSquare(7);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDivideNeedsAMove() {
+    Perft.forHex(5).divide(0, 1);
+  }
+}
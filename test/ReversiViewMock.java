@@ -126,5 +126,12 @@ public class ReversiViewMock extends JFrame implements ReversiView {
     super.repaint();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addCloseListener(Runnable onClose) {
+    // not needed
+  }
 }
 
@@ -2,12 +2,20 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.Assert;
 
+import cs3500.reversi.model.AbstractReversi;
+import cs3500.reversi.model.BitboardSquareGrid;
+import cs3500.reversi.model.BoardTopology;
+import cs3500.reversi.model.CellRegistry;
 import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.Hex;
+import cs3500.reversi.model.HexReversi;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.model.Square;
+import cs3500.reversi.model.SquareGrid;
 import cs3500.reversi.model.SquareReversi;
 
+import java.util.Map;
+
 /**
  * Constructs tests for a square reversi model game, using textual views .
  */
@@ -406,4 +414,91 @@ public class SquareReversiTests {
     Assert.assertFalse(model.isGameOver());
   }
 
+  @Test
+  public void testBitboardKeepsPositionHash() {
+    init();
+    ReversiModel other = new SquareReversi();
+    model.setup();
+    other.setup();
+    // the bitboard places discs itself, doMove goes cell by cell
+    model.placeDisc(DiscStatus.Black, new Square(4, 2));
+    other.doMove(new Square(4, 2));
+    Assert.assertEquals(model.getPositionHash(), other.getPositionHash());
+    Assert.assertEquals(4, model.getBlackScore());
+    Assert.assertEquals(1, model.getWhiteScore());
+  }
+
+  @Test
+  public void testUndoMovesPutsGameBack() {
+    init();
+    ReversiModel model6 = new SquareReversi(6);
+    for (ReversiModel game : new ReversiModel[] {model, model6}) {
+      game.setup();
+      Map<?, DiscStatus> before = game.getCopyOfGrid();
+      game.doMove(game.getPossibleMoves().get(0));
+      game.doPass();
+      game.doMove(game.getPossibleMoves().get(0));
+      Assert.assertEquals(0, game.getConsecutivePasses());
+      game.undoMove();
+      Assert.assertEquals(1, game.getConsecutivePasses());
+      game.undoMove();
+      game.undoMove();
+      Assert.assertEquals(before, game.getCopyOfGrid());
+      Assert.assertTrue(game.isBlackTurn());
+      Assert.assertEquals(2, game.getBlackScore());
+      Assert.assertEquals(2, game.getWhiteScore());
+    }
+  }
+
+  @Test
+  public void testCopyOfGameMatchesWithoutSharing() {
+    init();
+    ReversiModel model6 = new SquareReversi(6);
+    for (ReversiModel game : new ReversiModel[] {model, model6}) {
+      game.setup();
+      game.doMove(game.getPossibleMoves().get(0));
+      Map<?, DiscStatus> before = game.getCopyOfGrid();
+      ReversiModel copy = AbstractReversi.copyOf(game);
+      Assert.assertEquals(before, copy.getCopyOfGrid());
+      Assert.assertEquals(game.getPossibleMoves(), copy.getPossibleMoves());
+      Assert.assertEquals(game.getPositionHash(), copy.getPositionHash());
+      Assert.assertFalse(copy.isBlackTurn());
+      copy.doMove(copy.getPossibleMoves().get(0));
+      Assert.assertEquals(before, game.getCopyOfGrid());
+      Assert.assertFalse(game.isBlackTurn());
+    }
+    Assert.assertSame(CellRegistry.forSquare(8), CellRegistry.forGame(model));
+    Assert.assertSame(CellRegistry.forHex(5), CellRegistry.forGame(new HexReversi(5)));
+  }
+
+  @Test
+  public void testTopologyClassifiesSquares() {
+    CellRegistry squares = CellRegistry.forSquare(8);
+    BoardTopology topology = BoardTopology.forRegistry(squares);
+    Assert.assertSame(topology, BoardTopology.forRegistry(CellRegistry.forSquare(8)));
+    int[] corners = topology.getCorners();
+    Assert.assertEquals(4, corners.length);
+    Assert.assertEquals(new Square(0, 0), squares.getCell(corners[0]));
+    Assert.assertEquals(new Square(7, 0), squares.getCell(corners[1]));
+    Assert.assertEquals(new Square(0, 7), squares.getCell(corners[2]));
+    Assert.assertEquals(new Square(7, 7), squares.getCell(corners[3]));
+    Assert.assertTrue(topology.isNextToCorner(squares.getSquareIndex(1, 1)));
+    Assert.assertTrue(topology.isNextToCorner(squares.getSquareIndex(6, 7)));
+    Assert.assertFalse(topology.isNextToCorner(squares.getSquareIndex(2, 0)));
+    Assert.assertTrue(topology.isEdge(squares.getSquareIndex(2, 0)));
+    Assert.assertFalse(topology.isEdge(squares.getSquareIndex(1, 1)));
+    // a quarter turn takes the top left corner to the top right
+    Assert.assertEquals(corners[1], topology.getSymmetry(1)[corners[0]]);
+    Assert.assertEquals(8, topology.getSymmetryCount());
+  }
+
+  @Test
+  public void testBitboardPlaysLikeMapGrid() {
+    // the map grid is the original, so the bitboard has to match it move for move
+    for (long seed = 0; seed < 100; seed++) {
+      DifferentialGame.play(new SquareReversi(8, new SquareGrid(8), 0, true, true),
+              new SquareReversi(8, new BitboardSquareGrid(), 0, true, true), seed);
+    }
+  }
+
 }
@@ -1,16 +1,40 @@
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import cs3500.reversi.model.Hex;
 import cs3500.reversi.model.HexReversi;
+import cs3500.reversi.model.RORModelAdapter;
+import cs3500.reversi.model.ReversiModelAdapter;
 import cs3500.reversi.model.DiscStatus;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.model.Square;
+import cs3500.reversi.model.ReversiCell;
 import cs3500.reversi.model.SquareReversi;
+import cs3500.reversi.provider.model.Disc;
+import cs3500.reversi.provider.model.Hexagon;
+import cs3500.reversi.provider.model.MutableReversiModel;
+import cs3500.reversi.provider.strategy.infallible.AvoidCornerAdjacencyMaxScore;
+import cs3500.reversi.provider.strategy.infallible.CaptureMostPieces;
+import cs3500.reversi.provider.strategy.infallible.CherryPickerCMSOptimizer;
+import cs3500.reversi.provider.strategy.infallible.OptimizeCornerStratMaxScore;
+import cs3500.reversi.provider.strategy.infallible.PlayCornersMaxScore;
+import cs3500.reversi.strategies.AlphaBetaStrategy;
 import cs3500.reversi.strategies.AvoidNextToCornerStrategy;
 import cs3500.reversi.strategies.CaptureCornersStrategy;
 import cs3500.reversi.strategies.CaptureMostStrategy;
+import cs3500.reversi.strategies.CombinedStrategy;
+import cs3500.reversi.strategies.CompactBoard;
+import cs3500.reversi.strategies.EndgameStrategy;
 import cs3500.reversi.strategies.HexStrategy;
+import cs3500.reversi.strategies.LazySmpStrategy;
+import cs3500.reversi.strategies.MctsStrategy;
+import cs3500.reversi.strategies.ProviderStrategyPort;
+import cs3500.reversi.strategies.StrategyAdapter;
+import cs3500.reversi.strategies.TranspositionTable;
 import cs3500.reversi.view.ReversiTextualView;
 import cs3500.reversi.view.SquareReversiTextualView;
 import cs3500.reversi.view.TextualView;
@@ -200,4 +224,476 @@ public class StrategyTests {
     Assert.assertTrue(log.toString().contains(result));
   }
 
+  @Test
+  public void testCombinedPicksLikeItsStrategiesInTurn() {
+    HexStrategy combined = new CombinedStrategy();
+    HexStrategy[] chain = {new CaptureCornersStrategy(), new AvoidNextToCornerStrategy(),
+        new CaptureMostStrategy()};
+    for (int size : new int[] {7, 8}) {
+      Random random = new Random(size);
+      ReversiModel model = size % 2 == 1 ? new HexReversi(size) : new SquareReversi(size);
+      model.setup();
+      while (!model.isGameOver()) {
+        String expected = "pass";
+        for (HexStrategy strategy : chain) {
+          expected = choice(strategy, model);
+          if (!expected.equals("pass")) {
+            break;
+          }
+        }
+        Assert.assertEquals(expected, choice(combined, model));
+        List<ReversiCell> moves = model.getPossibleMoves();
+        if (moves.isEmpty()) {
+          model.doPass();
+        } else {
+          model.doMove(moves.get(random.nextInt(moves.size())));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testAlphaBetaStopsAtMaxDepth() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(7);
+    AlphaBetaStrategy search = new AlphaBetaStrategy(60_000, 3);
+    model.setup();
+    Map<ReversiCell, DiscStatus> before = model.getCopyOfGrid();
+    ReversiCell move = search.chooseHex(model, DiscStatus.Black);
+    Assert.assertEquals(3, search.getCompletedDepth());
+    // the search tries moves on a copy, the game itself is left alone
+    Assert.assertEquals(before, model.getCopyOfGrid());
+    Assert.assertTrue(model.isBlackTurn());
+    Assert.assertTrue(model.isMoveLegalAt(move));
+    model.placeDisc(DiscStatus.Black, move);
+  }
+
+  @Test
+  public void squareTestAlphaBetaSolvesSmallGrid() throws IllegalAccessException {
+    ReversiModel model = new SquareReversi(4);
+    AlphaBetaStrategy search = new AlphaBetaStrategy(60_000);
+    model.setup();
+    ReversiCell move = search.chooseHex(model, DiscStatus.Black);
+    // 12 empty squares, so a search that deep sees every game to its end
+    Assert.assertEquals(12, search.getCompletedDepth());
+    Assert.assertTrue(model.isMoveLegalAt(move));
+  }
+
+  @Test
+  public void squareTestAlphaBetaLongestBudgetIsNotOutOfTime() throws IllegalAccessException {
+    ReversiModel model = new SquareReversi(4);
+    // the deadline of this budget wraps around past the largest long
+    AlphaBetaStrategy search = new AlphaBetaStrategy(Long.MAX_VALUE / 1_000_000L);
+    model.setup();
+    Assert.assertTrue(model.isMoveLegalAt(search.chooseHex(model, DiscStatus.Black)));
+    // the clock was looked at, and the whole game was still searched
+    Assert.assertTrue(search.getNodes() > 1024);
+    Assert.assertEquals(12, search.getCompletedDepth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAlphaBetaBudgetMustFitInNanoseconds() {
+    new AlphaBetaStrategy(Long.MAX_VALUE / 1_000_000L + 1);
+  }
+
+  @Test
+  public void testAlphaBetaAlwaysFinishesOneMove() throws IllegalAccessException {
+    ReversiModel model = new HexReversi();
+    AlphaBetaStrategy search = new AlphaBetaStrategy(0);
+    model.setup();
+    Assert.assertTrue(model.isMoveLegalAt(search.chooseHex(model, DiscStatus.Black)));
+    Assert.assertTrue(search.getCompletedDepth() >= 1);
+  }
+
+  @Test
+  public void testSearchesStopWhenInterrupted() throws IllegalAccessException {
+    ReversiModel model = new HexReversi();
+    model.setup();
+    AlphaBetaStrategy search = new AlphaBetaStrategy(60_000);
+    // 32 empty squares are far too many to solve before the interrupt is seen
+    ReversiModel square = new SquareReversi(6);
+    square.setup();
+    EndgameStrategy solver = new EndgameStrategy(new CaptureMostStrategy(), 64);
+    long start = System.nanoTime();
+    Thread.currentThread().interrupt();
+    try {
+      Assert.assertTrue(model.isMoveLegalAt(search.chooseHex(model, DiscStatus.Black)));
+      Assert.assertTrue(square.isMoveLegalAt(solver.chooseHex(square, DiscStatus.Black)));
+    } finally {
+      Thread.interrupted();
+    }
+    Assert.assertFalse(solver.isSolved());
+    Assert.assertTrue(System.nanoTime() - start < 10_000_000_000L);
+  }
+
+  @Test
+  public void testTranspositionTableKeepsResults() {
+    TranspositionTable table = new TranspositionTable(1 << 10);
+    Assert.assertEquals(64, table.getCapacity());
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(12345L));
+
+    table.store(12345L, 7, TranspositionTable.UPPER, -42, 90);
+    long result = table.probe(12345L);
+    Assert.assertEquals(7, TranspositionTable.getDepth(result));
+    Assert.assertEquals(TranspositionTable.UPPER, TranspositionTable.getBound(result));
+    Assert.assertEquals(-42, TranspositionTable.getScore(result));
+    Assert.assertEquals(90, TranspositionTable.getMove(result));
+
+    table.clear();
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(12345L));
+  }
+
+  @Test
+  public void testTranspositionTableKeepsDeeperResult() {
+    TranspositionTable table = new TranspositionTable(1 << 10);
+    // every hash lands in the same bucket, so only two of them fit
+    long deep = 1L << 40;
+    long shallow = 2L << 40;
+    long latest = 3L << 40;
+    table.store(deep, 9, TranspositionTable.EXACT, 1, -1);
+    table.store(shallow, 2, TranspositionTable.EXACT, 2, -1);
+    table.store(latest, 3, TranspositionTable.EXACT, 3, -1);
+    Assert.assertEquals(9, TranspositionTable.getDepth(table.probe(deep)));
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(shallow));
+    Assert.assertEquals(3, TranspositionTable.getScore(table.probe(latest)));
+  }
+
+  @Test
+  public void testAlphaBetaReusesSharedTable() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(7);
+    TranspositionTable table = new TranspositionTable(1 << 20);
+    model.setup();
+    AlphaBetaStrategy first = new AlphaBetaStrategy(60_000, 4, table);
+    ReversiCell move = first.chooseHex(model, DiscStatus.Black);
+    // a second search of the same position finds most of it in the table
+    AlphaBetaStrategy second = new AlphaBetaStrategy(60_000, 4, table);
+    Assert.assertEquals(move, second.chooseHex(model, DiscStatus.Black));
+    Assert.assertTrue(second.getNodes() < first.getNodes());
+  }
+
+  @Test
+  public void testLazySmpPicksLegalMove() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(7);
+    LazySmpStrategy search = new LazySmpStrategy(200, 3);
+    model.setup();
+    Map<ReversiCell, DiscStatus> before = model.getCopyOfGrid();
+    ReversiCell move = search.chooseHex(model, DiscStatus.Black);
+    Assert.assertTrue(model.isMoveLegalAt(move));
+    Assert.assertEquals(before, model.getCopyOfGrid());
+    Assert.assertTrue(search.getCompletedDepth() >= 1);
+    Assert.assertTrue(search.getNodes() > 0);
+  }
+
+  @Test
+  public void squareTestLazySmpSolvesSmallGrid() throws IllegalAccessException {
+    ReversiModel model = new SquareReversi(4);
+    LazySmpStrategy search = new LazySmpStrategy(60_000, 2);
+    model.setup();
+    Assert.assertTrue(model.isMoveLegalAt(search.chooseHex(model, DiscStatus.Black)));
+    Assert.assertEquals(12, search.getCompletedDepth());
+  }
+
+  @Test
+  public void testCompactBoardPlaysLikeGame() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    CompactBoard board = new CompactBoard(model);
+    int[] moves = new int[board.getCellCount()];
+    for (int turn = 0; turn < 10; turn++) {
+      int count = board.getMoves(moves);
+      List<ReversiCell> legal = model.getPossibleMoves();
+      Assert.assertEquals(legal.size(), count);
+      Assert.assertEquals(legal.get(0), board.getCell(moves[0]));
+      model.placeDisc(model.isBlackTurn() ? DiscStatus.Black : DiscStatus.White, legal.get(0));
+      board.play(moves[0]);
+      Assert.assertEquals(model.getBlackScore(), board.getBlackCount());
+      Assert.assertEquals(model.getWhiteScore(), board.getWhiteCount());
+      Assert.assertEquals(model.isBlackTurn(), board.isBlackToMove());
+    }
+  }
+
+  @Test
+  public void testMctsPicksLegalMove() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(7);
+    MctsStrategy search = new MctsStrategy(100, 2);
+    model.setup();
+    Map<ReversiCell, DiscStatus> before = model.getCopyOfGrid();
+    ReversiCell move = search.chooseHex(model, DiscStatus.Black);
+    Assert.assertTrue(model.isMoveLegalAt(move));
+    Assert.assertEquals(before, model.getCopyOfGrid());
+    Assert.assertTrue(search.getPlayouts() >= 2);
+    Assert.assertTrue(search.getPlayoutsPerSecond() > 0);
+  }
+
+  @Test
+  public void testMctsLongestBudgetKeepsSearching() throws InterruptedException {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    MctsStrategy search = new MctsStrategy(Long.MAX_VALUE / 1_000_000L, 1);
+    Thread thread = new Thread(() -> {
+      try {
+        search.chooseHex(model, DiscStatus.Black);
+      } catch (IllegalAccessException | IllegalStateException e) {
+        // stopped by the interrupt below
+      }
+    });
+    thread.start();
+    thread.join(500);
+    // the deadline wraps around past the largest long, but is still far away
+    Assert.assertTrue(thread.isAlive());
+    thread.interrupt();
+    thread.join(10_000);
+    Assert.assertFalse(thread.isAlive());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLazySmpBudgetMustFitInNanoseconds() {
+    new LazySmpStrategy(Long.MAX_VALUE / 1_000_000L + 1, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMctsBudgetMustFitInNanoseconds() {
+    new MctsStrategy(Long.MAX_VALUE / 1_000_000L + 1, 1);
+  }
+
+  @Test
+  public void squareTestMctsPicksLegalMove() throws IllegalAccessException {
+    ReversiModel model = new SquareReversi();
+    MctsStrategy search = new MctsStrategy(0, 1);
+    model.setup();
+    model.placeDisc(DiscStatus.Black, new Square(4, 2));
+    Assert.assertTrue(model.isMoveLegalAt(search.chooseHex(model, DiscStatus.White)));
+    Assert.assertEquals(1, search.getPlayouts());
+  }
+
+  @Test
+  public void squareTestEndgameSolvesSmallGrid() throws IllegalAccessException {
+    ReversiModel model = new SquareReversi(4);
+    EndgameStrategy search = new EndgameStrategy(new CaptureMostStrategy(), 12);
+    model.setup();
+    Map<ReversiCell, DiscStatus> before = model.getCopyOfGrid();
+    ReversiCell move = search.chooseHex(model, DiscStatus.Black);
+    Assert.assertEquals(before, model.getCopyOfGrid());
+    Assert.assertTrue(search.isSolved());
+    Assert.assertTrue(search.getNodes() > 0);
+    model.doMove(move);
+    Assert.assertEquals(solveLead(model, -100, 100), -search.getSolvedLead());
+    model.undoMove();
+    Assert.assertEquals(solveLead(model, -100, 100), search.getSolvedLead());
+  }
+
+  @Test
+  public void testEndgameSolvesSmallGrid() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(5);
+    EndgameStrategy search = new EndgameStrategy(new CaptureMostStrategy(), 12);
+    model.setup();
+    model.placeDisc(DiscStatus.Black, model.getPossibleMoves().get(0));
+    ReversiCell move = search.chooseHex(model, DiscStatus.White);
+    Assert.assertTrue(model.isMoveLegalAt(move));
+    Assert.assertTrue(search.isSolved());
+    Assert.assertEquals(solveLead(model, -100, 100), search.getSolvedLead());
+    model.doMove(move);
+    Assert.assertEquals(solveLead(model, -100, 100), -search.getSolvedLead());
+  }
+
+  @Test
+  public void testEndgameFallsBackEarlyInGame() throws IllegalAccessException {
+    ReversiModel model = new HexReversi();
+    EndgameStrategy search = new EndgameStrategy(new CaptureMostStrategy(), 12);
+    model.setup();
+    Assert.assertEquals(new CaptureMostStrategy().chooseHex(model, DiscStatus.Black),
+            search.chooseHex(model, DiscStatus.Black));
+    Assert.assertFalse(search.isSolved());
+    Assert.assertEquals(0, search.getNodes());
+  }
+
+  @Test
+  public void testCompactBoardUndoesMoves() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    CompactBoard board = new CompactBoard(model);
+    CompactBoard start = new CompactBoard(board);
+    int[] moves = new int[board.getCellCount()];
+    int[] flipped = new int[board.getCellCount()];
+    board.getMoves(moves);
+    int passes = board.getPasses();
+    int count = board.play(moves[0], flipped);
+    Assert.assertEquals(start.getEmptyCount() - 1, board.getEmptyCount());
+    board.undo(moves[0], flipped, count, passes);
+    board.pass();
+    board.undoPass();
+    for (int i = 0; i < board.getCellCount(); i++) {
+      Assert.assertEquals(start.isEmpty(i), board.isEmpty(i));
+    }
+    Assert.assertEquals(start.getBlackCount(), board.getBlackCount());
+    Assert.assertEquals(start.getWhiteCount(), board.getWhiteCount());
+    Assert.assertEquals(start.isBlackToMove(), board.isBlackToMove());
+    Assert.assertEquals(start.getPasses(), board.getPasses());
+  }
+
+  @Test
+  public void testProviderBoardFollowsGame() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    Map<Hexagon, Disc> board = new RORModelAdapter(model).getBoard();
+    Assert.assertEquals(37, board.size());
+    Assert.assertEquals(37, board.keySet().size());
+    for (ReversiCell hex : model.getCopyOfGrid().keySet()) {
+      Hexagon hexagon = new Hexagon(-hex.getS(), -hex.getR());
+      Assert.assertTrue(board.containsKey(hexagon));
+      Assert.assertEquals(model.getStatus(hex) != DiscStatus.Empty,
+              board.get(hexagon).hasDisc());
+    }
+    Assert.assertFalse(board.containsKey(new Hexagon(3, 3)));
+    Assert.assertNull(board.get(new Hexagon(3, 3)));
+
+    ReversiCell move = model.getPossibleMoves().get(0);
+    Hexagon moved = new Hexagon(-move.getS(), -move.getR());
+    Assert.assertFalse(board.get(moved).hasDisc());
+    model.doMove(move);
+    Assert.assertEquals(Disc.DiscColor.BLACK, board.get(moved).getDiscColor());
+  }
+
+  @Test
+  public void testProviderCopyLeavesGameAlone() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    ReversiModel played = new HexReversi(7);
+    played.setup();
+    RORModelAdapter adapter = new RORModelAdapter(played);
+    ReversiCell move = model.getPossibleMoves().get(0);
+    Hexagon hexagon = new Hexagon(-move.getS(), -move.getR());
+
+    MutableReversiModel copy = new RORModelAdapter(model).copyGame();
+    MutableReversiModel second = copy.copyGame();
+    copy.placeDisc(hexagon);
+    played.doMove(move);
+    Assert.assertEquals(DiscStatus.Empty, model.getStatus(move));
+    Assert.assertFalse(second.getDisc(hexagon).hasDisc());
+    Assert.assertEquals(Disc.DiscColor.WHITE, copy.getTurn().getDiscColor());
+    for (Hexagon tile : copy.getBoard().keySet()) {
+      Assert.assertEquals(adapter.getDisc(tile), copy.getDisc(tile));
+    }
+    Assert.assertEquals(adapter.getScore(adapter.getTurn()), copy.getScore(copy.getTurn()));
+  }
+
+  @Test
+  public void testProviderPortsMatchProviderStrategies() {
+    HexStrategy[] originals = {new StrategyAdapter(new CaptureMostPieces()),
+        new StrategyAdapter(new PlayCornersMaxScore()),
+        new StrategyAdapter(new AvoidCornerAdjacencyMaxScore()),
+        new StrategyAdapter(new OptimizeCornerStratMaxScore()),
+        new StrategyAdapter(new CherryPickerCMSOptimizer())};
+    HexStrategy[] ports = {ProviderStrategyPort.captureMostPieces(),
+        ProviderStrategyPort.playCornersMaxScore(),
+        ProviderStrategyPort.avoidCornerAdjacencyMaxScore(),
+        ProviderStrategyPort.optimizeCornerStratMaxScore(),
+        ProviderStrategyPort.cherryPickerCMSOptimizer()};
+    int positions = 0;
+    for (int size : new int[] {7, 9, 11}) {
+      for (int seed = 0; seed < 4; seed++) {
+        Random random = new Random(seed);
+        ReversiModel model = new HexReversi(size);
+        model.setup();
+        while (!model.isGameOver()) {
+          for (int i = 0; i < ports.length; i++) {
+            Assert.assertEquals("strategy " + i + " at move " + positions,
+                    choice(originals[i], model), choice(ports[i], model));
+          }
+          positions++;
+          List<ReversiCell> moves = model.getPossibleMoves();
+          // pass now and then, so cherry picking gets its chances
+          if (moves.isEmpty() || random.nextInt(8) == 0) {
+            model.doPass();
+          } else {
+            model.doMove(moves.get(random.nextInt(moves.size())));
+          }
+        }
+      }
+    }
+    Assert.assertTrue(positions > 100);
+  }
+
+  /**
+   * Gets the move a strategy chooses, or "pass" if it chooses none.
+   */
+  private static String choice(HexStrategy strategy, ReversiModel model) {
+    DiscStatus player = model.isBlackTurn() ? DiscStatus.Black : DiscStatus.White;
+    try {
+      ReversiCell cell = strategy.chooseHex(model, player);
+      try {
+        return cell.getQ() + "," + cell.getR() + "," + cell.getS();
+      } catch (IllegalArgumentException e) {
+        return cell.getX() + "," + cell.getY();
+      }
+    } catch (IllegalAccessException e) {
+      return "pass";
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testProviderCopyCannotReplay() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    ReversiCell move = model.getPossibleMoves().get(0);
+    MutableReversiModel copy = new RORModelAdapter(model).copyGame();
+    copy.placeDisc(new Hexagon(-move.getS(), -move.getR()));
+    copy.placeDisc(new Hexagon(-move.getS(), -move.getR()));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testProviderCopyOfChangedGame() {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    MutableReversiModel copy = new RORModelAdapter(model).copyGame();
+    model.doMove(model.getPossibleMoves().get(0));
+    copy.getDisc(new Hexagon(0, 0));
+  }
+
+  @Test
+  public void testProviderSideLengthCountsOneSide() {
+    // our grid size is the hexes across the middle row, the provider's the hexes along a side
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    Assert.assertEquals(4, new RORModelAdapter(model).getGameBoardSideLength());
+    Assert.assertEquals(4, new ReversiModelAdapter(model).getGameBoardSideLength());
+    Assert.assertEquals(3, new RORModelAdapter(new HexReversi(5)).getGameBoardSideLength());
+  }
+
+  @Test
+  public void testProviderCornerStrategyStaysOnGrid() throws IllegalAccessException {
+    ReversiModel model = new HexReversi(7);
+    model.setup();
+    HexStrategy corners = new StrategyAdapter(new PlayCornersMaxScore());
+    Assert.assertTrue(model.isMoveLegalAt(corners.chooseHex(model, DiscStatus.Black)));
+  }
+
+  /**
+   * Finds the final disc lead of the player to move by playing out every game on the model.
+   */
+  private static int solveLead(ReversiModel game, int alpha, int beta) {
+    List<ReversiCell> moves = game.getPossibleMoves();
+    if (moves.isEmpty()) {
+      if (game.getConsecutivePasses() > 0) {
+        int lead = game.getBlackScore() - game.getWhiteScore();
+        return game.isBlackTurn() ? lead : -lead;
+      }
+      game.doPass();
+      int score = -solveLead(game, -beta, -alpha);
+      game.undoMove();
+      return score;
+    }
+    for (ReversiCell move : moves) {
+      game.doMove(move);
+      int score = -solveLead(game, -beta, -alpha);
+      game.undoMove();
+      if (score > alpha) {
+        alpha = score;
+        if (alpha >= beta) {
+          break;
+        }
+      }
+    }
+    return alpha;
+  }
+
 }
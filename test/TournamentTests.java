@@ -0,0 +1,73 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+import cs3500.reversi.strategies.CaptureMostStrategy;
+import cs3500.reversi.strategies.LazySmpStrategy;
+import cs3500.reversi.strategies.StrategyFactory;
+import cs3500.reversi.tools.Tournament;
+
+/**
+ * Tests for playing many games between computer strategies without a view.
+ */
+public class TournamentTests {
+
+  @Test
+  public void testTournamentCountsEveryGame() {
+    Tournament tournament = new Tournament("hex", 7, "strategy3", "strategy4");
+    Tournament.Result result = tournament.play(10, 3);
+    Assert.assertEquals(10, result.getWins() + result.getDraws() + result.getLosses());
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+    Assert.assertTrue(result.toString().startsWith("Wins: " + result.getWins()));
+  }
+
+  @Test
+  public void squareTestSameStrategyEvensOut() {
+    // the same deterministic strategy on both sides plays the same two games with colors
+    // swapped, so every win of one game is a loss of the other
+    Tournament tournament = new Tournament("square", 6, "strategy3", "strategy3");
+    Tournament.Result result = tournament.play(8, 2);
+    Assert.assertEquals(result.getWins(), result.getLosses());
+    Assert.assertEquals(0, result.getAverageLead(), 1e-9);
+  }
+
+  @Test
+  public void testFactoryMakesNewStrategies() {
+    Assert.assertTrue(StrategyFactory.create("strategy3") instanceof CaptureMostStrategy);
+    Assert.assertNotSame(StrategyFactory.create("strategy3"), StrategyFactory.create("strategy3"));
+  }
+
+  @Test
+  public void testFactoryTakesThreadsAndTableSize() {
+    Assert.assertTrue(StrategyFactory.create("strategy7", 2, 1 << 16)
+            instanceof LazySmpStrategy);
+    Assert.assertTrue(StrategyFactory.create("strategy3", 2, 0) instanceof CaptureMostStrategy);
+    Assert.assertTrue(StrategyFactory.isMultiThreaded("strategy6"));
+    Assert.assertTrue(StrategyFactory.isMultiThreaded("strategy7"));
+    Assert.assertFalse(StrategyFactory.isMultiThreaded("strategy5"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFactoryNeedsThreads() {
+    StrategyFactory.create("strategy6", 0, 1 << 16);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTournamentNeedsSearchThreads() {
+    new Tournament("hex", 7, "strategy3", "strategy7", 0, 1 << 16);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTournamentNeedsComputerStrategies() {
+    new Tournament("hex", 7, "human", "strategy3");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTournamentNeedsKnownShape() {
+    new Tournament("triangle", 7, "strategy3", "strategy3");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTournamentNeedsGames() {
+    new Tournament("hex", 7, "strategy3", "strategy3").play(0, 1);
+  }
+}